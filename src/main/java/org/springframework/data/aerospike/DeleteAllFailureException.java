@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike;
+
+import org.springframework.dao.DataAccessException;
+
+import java.util.Map;
+
+/**
+ * Thrown if some of the deletes of a bulk delete failed. Carries the results of the deletes that succeeded and the
+ * failures of the others, keyed by id.
+ */
+public class DeleteAllFailureException extends DataAccessException {
+
+	private static final long serialVersionUID = 4816329455870431467L;
+
+	private final transient Map<Object, Boolean> results;
+	private final transient Map<Object, RuntimeException> failures;
+
+	public DeleteAllFailureException(Map<Object, Boolean> results, Map<Object, RuntimeException> failures) {
+		super("Failed to delete " + failures.size() + " of " + (results.size() + failures.size()) + " records",
+				failures.values().iterator().next());
+		this.results = results;
+		this.failures = failures;
+		failures.values().stream().skip(1).forEach(this::addSuppressed);
+	}
+
+	/**
+	 * @return whether a record existed and was deleted for each id whose delete succeeded.
+	 */
+	public Map<Object, Boolean> getResults() {
+		return results;
+	}
+
+	/**
+	 * @return the failure of each id whose delete failed.
+	 */
+	public Map<Object, RuntimeException> getFailures() {
+		return failures;
+	}
+}
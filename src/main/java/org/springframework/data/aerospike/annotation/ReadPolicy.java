@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.annotation;
+
+import com.aerospike.client.policy.ConsistencyLevel;
+import com.aerospike.client.policy.Replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides settings of the policy used to read single records by id, i.e. the reads of
+ * {@link org.springframework.data.aerospike.core.AerospikeTemplate#findById} (and so of the repository's
+ * {@code findOne}) and of {@link org.springframework.data.aerospike.core.AerospikeTemplate#getBlob}. On an entity it
+ * applies to the reads of the entity, on a repository method to these reads issued while the method is executed, on
+ * top of the settings of the entity. Unset attributes keep the value of the policy configured for the namespace, or of
+ * the client's default policy.
+ * <br/><br/>
+ * Reads of touch on read entities are sent as touch operations with the write policy of the namespace, the attributes
+ * are applied to it. Reads annotated with a policy are not combined by read batching. The annotation does not apply to
+ * the batch reads of {@link org.springframework.data.aerospike.core.AerospikeTemplate#findByIds}, which use the batch
+ * policy of the template, nor to queries, so it has no effect on derived query methods; annotating them is logged as a
+ * warning.
+ * <br/><br/>
+ * See {@link com.aerospike.client.policy.Policy} for the meaning of the attributes.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface ReadPolicy {
+
+	/**
+	 * Socket idle timeout in milliseconds, {@code -1} keeps the configured value.
+	 */
+	int socketTimeout() default -1;
+
+	/**
+	 * Total transaction timeout in milliseconds including retries, {@code -1} keeps the configured value.
+	 */
+	int totalTimeout() default -1;
+
+	/**
+	 * Maximum number of retries, {@code -1} keeps the configured value.
+	 */
+	int maxRetries() default -1;
+
+	/**
+	 * Milliseconds to sleep between retries, {@code -1} keeps the configured value.
+	 */
+	int sleepBetweenRetries() default -1;
+
+	/**
+	 * Replica to read from, at most one value. Empty keeps the configured replica.
+	 */
+	Replica[] replica() default {};
+
+	/**
+	 * Number of replicas to consult, at most one value. Empty keeps the configured consistency level.
+	 */
+	ConsistencyLevel[] consistencyLevel() default {};
+}
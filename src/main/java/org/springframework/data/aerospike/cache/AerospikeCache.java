@@ -5,6 +5,8 @@ import java.util.concurrent.Callable;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.aerospike.core.AerospikeOperationListener;
+import org.springframework.data.aerospike.core.OperationRecorder;
 
 import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.Bin;
@@ -26,6 +28,7 @@ public class AerospikeCache implements Cache {
 	protected String namespace;
 	protected String set;
 	protected WritePolicy createOnly;
+	protected volatile OperationRecorder recorder = OperationRecorder.NONE;
 
 	public AerospikeCache(String namespace, String set, AerospikeClient client,
 			long expiration){
@@ -36,6 +39,13 @@ public class AerospikeCache implements Cache {
 		this.createOnly.recordExistsAction = RecordExistsAction.CREATE_ONLY;
 	}
 
+	/**
+	 * Sets the listener notified about every request sent by this cache.
+	 */
+	public void setOperationListener(AerospikeOperationListener listener) {
+		this.recorder = OperationRecorder.of(listener);
+	}
+
 	protected Key getKey(Object key){
 		return new Key(namespace, set, key.toString());
 	}
@@ -51,13 +61,13 @@ public class AerospikeCache implements Cache {
 
 	@Override
 	public void evict(Object key) {
-		this.client.delete(null, getKey(key));
+		recorder.operation(AerospikeOperationListener.DELETE, namespace, set, () -> this.client.delete(null, getKey(key)));
 
 	}
 
 	@Override
 	public ValueWrapper get(Object key) {
-		Record record =  client.get(null, getKey(key));
+		Record record = recorder.operation(AerospikeOperationListener.GET, namespace, set, () -> client.get(null, getKey(key)));
 		ValueWrapper vr = toWrapper(record);
 		return vr;
 	}
@@ -65,7 +75,7 @@ public class AerospikeCache implements Cache {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(Object key, Class<T> type) {
-		return (T) client.get(null, getKey(key));
+		return (T) recorder.operation(AerospikeOperationListener.GET, namespace, set, () -> client.get(null, getKey(key)));
 	}
 
 	@Override
@@ -80,12 +90,13 @@ public class AerospikeCache implements Cache {
 
 	@Override
 	public void put(Object key, Object value) {
-		client.put(null, getKey(key), new Bin(VALUE, value));
+		recorder.operation(AerospikeOperationListener.PUT, namespace, set, () -> client.put(null, getKey(key), new Bin(VALUE, value)));
 	}
 
 	@Override
 	public ValueWrapper putIfAbsent(Object key, Object value) {
-		Record record = client.operate(this.createOnly, getKey(key), Operation.put(new Bin(VALUE, value)), Operation.get(VALUE));
+		Record record = recorder.operation(AerospikeOperationListener.OPERATE, namespace, set,
+				() -> client.operate(this.createOnly, getKey(key), Operation.put(new Bin(VALUE, value)), Operation.get(VALUE)));
 		return toWrapper(record);
 	}
 
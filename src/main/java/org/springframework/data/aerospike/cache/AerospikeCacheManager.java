@@ -29,6 +29,7 @@ import org.springframework.data.aerospike.convert.AerospikeConverter;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeOperationListener;
 import org.springframework.util.Assert;
 
 import java.util.*;
@@ -52,6 +53,7 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	private final AerospikeConverter aerospikeConverter;
 	private final String setName;
 	private final Set<String> configuredCacheNames;
+	private AerospikeOperationListener operationListener = AerospikeOperationListener.NONE;
 
 	/**
 	 * Create a new {@link AerospikeCacheManager} instance with no caches and with the
@@ -109,6 +111,13 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 		this.configuredCacheNames = new LinkedHashSet<String>(cacheNames);
 	}
 
+	/**
+	 * Sets the listener notified about the requests of the caches created by this manager.
+	 */
+	public void setOperationListener(AerospikeOperationListener operationListener) {
+		this.operationListener = operationListener;
+	}
+
 	@Override
 	protected Collection<? extends Cache> loadCaches() {
 		List<AerospikeCache> caches = new ArrayList<AerospikeCache>();
@@ -124,7 +133,9 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	}
 
 	protected AerospikeCache createCache(String cacheName) {
-		return new AerospikeSerializingCache(cacheName);
+		AerospikeCache cache = new AerospikeSerializingCache(cacheName);
+		cache.setOperationListener(operationListener);
+		return cache;
 	}
 
 	@Override
@@ -168,10 +179,10 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 		@Override
 		public <T> T get(Object key, Class<T> type) {
 			Key dbKey = getKey(key);
-			Record record =  client.get(null, dbKey);
+			Record record = recorder.operation(AerospikeOperationListener.GET, namespace, set, () -> client.get(null, dbKey));
 			if (record != null) {
 				AerospikeReadData data = AerospikeReadData.forRead(dbKey, record);
-				T value = aerospikeConverter.read(type,  data);
+				T value = recorder.conversion(AerospikeOperationListener.READ, set, () -> aerospikeConverter.read(type, data));
 				return value;
 			}
 			return null;
@@ -185,8 +196,9 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 
 		private void serializeAndPut(WritePolicy writePolicy, Object key, Object value) {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			aerospikeConverter.write(value, data);
-			client.put(writePolicy, getKey(key), data.getBinsAsArray());
+			recorder.conversion(AerospikeOperationListener.WRITE, set, () -> aerospikeConverter.write(value, data));
+			recorder.operation(AerospikeOperationListener.PUT, namespace, set,
+					() -> client.put(writePolicy, getKey(key), data.getBinsAsArray()));
 		}
 
 		@Override
@@ -7,16 +7,21 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.aerospike.convert.AerospikeMappingWarmUp;
 import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
 import org.springframework.data.aerospike.convert.CustomConversions;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeClusterStats;
 import org.springframework.data.aerospike.core.AerospikeExceptionTranslator;
 import org.springframework.data.aerospike.core.AerospikeTemplate;
 import org.springframework.data.aerospike.core.DefaultAerospikeExceptionTranslator;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
 import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.aerospike.mapping.EntityIndex;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
@@ -24,6 +29,7 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.util.*;
 
 @Configuration
@@ -67,6 +73,22 @@ public abstract class AbstractAerospikeDataConfiguration {
         return context;
     }
 
+    @Bean(name = "aerospikeMappingWarmUp")
+    public AerospikeMappingWarmUp aerospikeMappingWarmUp(AerospikeMappingContext aerospikeMappingContext,
+                                                         MappingAerospikeConverter mappingAerospikeConverter) {
+        AerospikeMappingWarmUp warmUp = new AerospikeMappingWarmUp(aerospikeMappingContext, customConversions(),
+                mappingAerospikeConverter.getEntityInstantiators());
+        warmUp.setWarmUpOnStartup(isMappingWarmUpEnabled());
+        return warmUp;
+    }
+
+    @Bean(name = "aerospikeClusterStats")
+    public AerospikeClusterStats aerospikeClusterStats(AerospikeClient aerospikeClient) {
+        AerospikeClusterStats clusterStats = new AerospikeClusterStats(aerospikeClient, nameSpace());
+        clusterStats.setSamplingIntervalMillis(getClusterStatsSamplingIntervalMillis());
+        return clusterStats;
+    }
+
     @Bean(name = "aerospikeExceptionTranslator")
     public AerospikeExceptionTranslator aerospikeExceptionTranslator() {
         return new DefaultAerospikeExceptionTranslator();
@@ -83,16 +105,36 @@ public abstract class AbstractAerospikeDataConfiguration {
         return new AerospikeClient(getClientPolicy(), hosts.toArray(new Host[hosts.size()]));
     }
 
+    /**
+     * Returns the entity types in {@link #getMappingBasePackage()}. They are read from the {@link EntityIndex} files on
+     * the classpath, the classpath roots of the base package without an index file are scanned.
+     */
     protected Set<Class<?>> getInitialEntitySet() throws ClassNotFoundException {
         String basePackage = getMappingBasePackage();
         Set<Class<?>> initialEntitySet = new HashSet<Class<?>>();
 
         if (StringUtils.hasText(basePackage)) {
+            ClassLoader classLoader = AbstractAerospikeDataConfiguration.class.getClassLoader();
+            Set<String> unindexedRoots;
+            try {
+                Set<Class<?>> indexedEntitySet = EntityIndex.load(basePackage, classLoader);
+                if (indexedEntitySet != null) {
+                    initialEntitySet.addAll(indexedEntitySet);
+                }
+                unindexedRoots = EntityIndex.getUnindexedRoots(basePackage, classLoader);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read " + EntityIndex.INDEX_LOCATION, e);
+            }
+            if (unindexedRoots.isEmpty()) {
+                return initialEntitySet;
+            }
+
             ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(false);
+            componentProvider.setResourceLoader(new RootsResourcePatternResolver(classLoader, unindexedRoots));
             componentProvider.addIncludeFilter(new AnnotationTypeFilter(Document.class));
             componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
             for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
-                initialEntitySet.add(ClassUtils.forName(candidate.getBeanClassName(), AbstractAerospikeDataConfiguration.class.getClassLoader()));
+                initialEntitySet.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
             }
         }
 
@@ -103,6 +145,21 @@ public abstract class AbstractAerospikeDataConfiguration {
         return getClass().getPackage().getName();
     }
 
+    /**
+     * Whether the metadata and conversions of all entities are resolved on startup, see {@link AerospikeMappingWarmUp}.
+     * Disabled by default.
+     */
+    protected boolean isMappingWarmUpEnabled() {
+        return false;
+    }
+
+    /**
+     * Interval of the background sampling of {@link AerospikeClusterStats}, {@code 0} (the default) disables it.
+     */
+    protected long getClusterStatsSamplingIntervalMillis() {
+        return 0;
+    }
+
     protected FieldNamingStrategy fieldNamingStrategy() {
         return PropertyNameFieldNamingStrategy.INSTANCE;
     }
@@ -118,5 +175,32 @@ public abstract class AbstractAerospikeDataConfiguration {
         return clientPolicy;
     }
 
+    /**
+     * Resolves only the resources in the given classpath roots, so that the roots already covered by an
+     * {@link EntityIndex} are not scanned again.
+     */
+    private static class RootsResourcePatternResolver extends PathMatchingResourcePatternResolver {
+
+        private final Set<String> roots;
+
+        RootsResourcePatternResolver(ClassLoader classLoader, Set<String> roots) {
+            super(classLoader);
+            this.roots = roots;
+        }
 
+        @Override
+        public Resource[] getResources(String locationPattern) throws IOException {
+            List<Resource> resources = new ArrayList<Resource>();
+            for (Resource resource : super.getResources(locationPattern)) {
+                String url = resource.getURL().toString();
+                for (String root : roots) {
+                    if (url.startsWith(root)) {
+                        resources.add(resource);
+                        break;
+                    }
+                }
+            }
+            return resources.toArray(new Resource[resources.size()]);
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.convert;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the metadata and conversions of all entities known to the {@link AerospikeMappingContext} once the
+ * application context is initialized, instead of on the first read or write of each entity type. Entities are warmed up
+ * in parallel, failures are logged rather than failing the startup.
+ */
+@Slf4j
+public class AerospikeMappingWarmUp implements SmartInitializingSingleton {
+
+	private final AerospikeMappingContext mappingContext;
+	private final CustomConversions conversions;
+	private final EntityInstantiators entityInstantiators;
+	private boolean warmUpOnStartup = true;
+
+	public AerospikeMappingWarmUp(AerospikeMappingContext mappingContext, CustomConversions conversions) {
+		this(mappingContext, conversions, new EntityInstantiators());
+	}
+
+	/**
+	 * @param entityInstantiators the instantiators of the converter, see
+	 * {@link MappingAerospikeConverter#getEntityInstantiators()}, they cache the instantiator generated per entity.
+	 */
+	public AerospikeMappingWarmUp(AerospikeMappingContext mappingContext, CustomConversions conversions,
+								  EntityInstantiators entityInstantiators) {
+		Assert.notNull(mappingContext, "Mapping context must not be null!");
+		Assert.notNull(conversions, "Custom conversions must not be null!");
+		Assert.notNull(entityInstantiators, "Entity instantiators must not be null!");
+		this.mappingContext = mappingContext;
+		this.conversions = conversions;
+		this.entityInstantiators = entityInstantiators;
+	}
+
+	/**
+	 * Whether {@link #warmUp()} is invoked once all singletons are instantiated, defaults to {@literal true}.
+	 */
+	public void setWarmUpOnStartup(boolean warmUpOnStartup) {
+		this.warmUpOnStartup = warmUpOnStartup;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (warmUpOnStartup) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Warms up all entities of the mapping context.
+	 *
+	 * @return the time spent per entity type in milliseconds, by entity type.
+	 */
+	public Map<Class<?>, Long> warmUp() {
+		long start = System.nanoTime();
+		List<BasicAerospikePersistentEntity<?>> entities = new ArrayList<BasicAerospikePersistentEntity<?>>(
+				mappingContext.getPersistentEntities());
+
+		Map<Class<?>, Long> timings = new ConcurrentHashMap<Class<?>, Long>();
+		entities.parallelStream().forEach(entity -> {
+			long entityStart = System.nanoTime();
+			try {
+				warmUp(entity);
+			} catch (RuntimeException e) {
+				log.warn("Failed to warm up entity {}", entity.getType().getName(), e);
+			}
+			long millis = toMillis(System.nanoTime() - entityStart);
+			timings.put(entity.getType(), millis);
+			log.debug("Warmed up entity {} in {} ms", entity.getType().getName(), millis);
+		});
+
+		log.info("Warmed up {} entities in {} ms", entities.size(), toMillis(System.nanoTime() - start));
+		return timings;
+	}
+
+	private void warmUp(BasicAerospikePersistentEntity<?> entity) {
+		entity.getSetName();
+		entity.isTouchOnRead();
+		conversions.precompute(entity.getType());
+
+		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+			property.getFieldName();
+			property.isIdProperty();
+			property.isExpirationProperty();
+			conversions.precompute(property.getActualType());
+		});
+
+		entity.getExpiration();
+
+		// generates the instantiator and the property accessor classes of the entity
+		EntityInstantiator instantiator = entityInstantiators.getInstantiatorFor(entity);
+		if (entity.getType().isInterface() || Modifier.isAbstract(entity.getType().getModifiers())) {
+			return;
+		}
+		Object instance;
+		try {
+			instance = instantiator.createInstance(entity, DefaultValueProvider.INSTANCE);
+		} catch (RuntimeException e) {
+			// the instantiator is generated, the constructor may reject the default values
+			log.debug("Failed to create instance of entity {} to warm up its property accessor", entity.getType().getName(), e);
+			return;
+		}
+		entity.getPropertyAccessor(instance);
+	}
+
+	private static long toMillis(long nanos) {
+		return nanos / 1_000_000;
+	}
+
+	/**
+	 * Provides the default value of the type of each constructor parameter.
+	 */
+	private enum DefaultValueProvider implements ParameterValueProvider<AerospikePersistentProperty> {
+
+		INSTANCE;
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getParameterValue(Parameter<T, AerospikePersistentProperty> parameter) {
+			Class<T> type = parameter.getType().getType();
+			return type.isPrimitive() ? (T) Array.get(Array.newInstance(type, 1), 0) : null;
+		}
+	}
+}
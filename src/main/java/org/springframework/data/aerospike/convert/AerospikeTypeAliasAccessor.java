@@ -17,6 +17,13 @@ public class AerospikeTypeAliasAccessor implements TypeAliasAccessor<Map<String,
 		this.typeKey = TYPE_KEY;
 	}
 
+	/**
+	 * @return the name of the bin the type alias is stored in, {@literal null} if type information is not stored.
+	 */
+	public String getTypeKey() {
+		return typeKey;
+	}
+
 	@Override
 	public Object readAliasFrom(Map<String, Object> source) {
 		if (typeKey == null) {
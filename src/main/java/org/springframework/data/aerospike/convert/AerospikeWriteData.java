@@ -2,6 +2,7 @@ package org.springframework.data.aerospike.convert;
 
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
+import com.aerospike.client.Value;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -46,13 +47,22 @@ public class AerospikeWriteData {
 	}
 
 	public void addBin(String key, Object value) {
-		add(new Bin(key, value));
+		add(value instanceof Value ? new Bin(key, (Value) value) : new Bin(key, value));
 	}
 
 	public void add(Bin bin) {
 		this.bins.add(bin);
 	}
 
+	/**
+	 * Makes room for the given number of bins, so that adding them does not grow the underlying list several times.
+	 */
+	public void ensureCapacity(int binCount) {
+		if (bins instanceof ArrayList) {
+			((ArrayList<Bin>) bins).ensureCapacity(binCount);
+		}
+	}
+
 	public int getExpiration() {
 		return expiration;
 	}
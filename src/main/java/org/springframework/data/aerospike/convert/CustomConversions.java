@@ -54,6 +54,28 @@ public class CustomConversions {
 	private final Set<Class<?>> customSimpleTypes;
 	private final ConcurrentMap<GenericConverter.ConvertiblePair, CacheValue> customReadTargetTypes;
 
+	private final ClassValue<Boolean> simpleTypes = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return simpleTypeHolder.isSimpleType(type);
+		}
+	};
+
+	private final ClassValue<CacheValue> customWriteTargetTypes = new ClassValue<CacheValue>() {
+		@Override
+		protected CacheValue computeValue(Class<?> sourceType) {
+			return CacheValue.of(getCustomTarget(sourceType, null, writingPairs));
+		}
+	};
+
+	private final ClassValue<ConcurrentMap<Class<?>, CacheValue>> requestedCustomWriteTargetTypes =
+			new ClassValue<ConcurrentMap<Class<?>, CacheValue>>() {
+				@Override
+				protected ConcurrentMap<Class<?>, CacheValue> computeValue(Class<?> sourceType) {
+					return new ConcurrentHashMap<Class<?>, CacheValue>(4);
+				}
+			};
+
 	/**
 	 * Create a new instance with a given list of conversers.
 	 *
@@ -87,7 +109,7 @@ public class CustomConversions {
 	 * @return if its simple type or not.
 	 */
 	public boolean isSimpleType(final Class<?> type) {
-		return simpleTypeHolder.isSimpleType(type);
+		return simpleTypes.get(type);
 	}
 
 	/**
@@ -172,6 +194,20 @@ public class CustomConversions {
 		}
 	}
 
+	/**
+	 * Resolves the conversions looked up when reading and writing objects of the given type ahead of time, so that the
+	 * first conversion of such an object does not pay for the lookup.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	public void precompute(Class<?> type) {
+		Assert.notNull(type, "Type must not be null!");
+		isSimpleType(type);
+		getCustomWriteTarget(type);
+		hasCustomWriteTarget(type, AerospikeWriteData.class);
+		hasCustomReadTarget(AerospikeReadData.class, type);
+	}
+
 	/**
 	 * Returns the target type to convert to in case we have a custom conversion registered to convert the given source
 	 * type into a Aerospike native one.
@@ -194,7 +230,21 @@ public class CustomConversions {
 	 */
 	public Class<?> getCustomWriteTarget(Class<?> sourceType, Class<?> requestedTargetType) {
 		Assert.notNull(sourceType, "Source type must not be null!");
-		return getCustomTarget(sourceType, requestedTargetType, writingPairs);
+		if (requestedTargetType == null) {
+			return customWriteTargetTypes.get(sourceType).getType();
+		}
+
+		ConcurrentMap<Class<?>, CacheValue> writeTargetTypes = requestedCustomWriteTargetTypes.get(sourceType);
+		CacheValue writeTargetTypeValue = writeTargetTypes.get(requestedTargetType);
+
+		if (writeTargetTypeValue != null) {
+			return writeTargetTypeValue.getType();
+		}
+
+		writeTargetTypeValue = CacheValue.of(getCustomTarget(sourceType, requestedTargetType, writingPairs));
+		CacheValue cacheValue = writeTargetTypes.putIfAbsent(requestedTargetType, writeTargetTypeValue);
+
+		return cacheValue != null ? cacheValue.getType() : writeTargetTypeValue.getType();
 	}
 
 	/**
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.convert;
+
+/**
+ * Implemented by entities read with lazy reads enabled, see {@link MappingAerospikeConverter#setLazyReads(boolean)}.
+ * Properties of such entities are converted from the bins of the record when their getter is first invoked, invoking
+ * any other method converts all remaining properties.
+ */
+public interface LazilyReadEntity {
+
+	/**
+	 * Converts all properties that have not been read yet.
+	 */
+	void readAllProperties();
+}
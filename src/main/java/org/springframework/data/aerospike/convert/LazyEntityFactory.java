@@ -0,0 +1,225 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.convert;
+
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates subclass proxies of entities that convert their properties on first access, see {@link LazilyReadEntity}.
+ * Only method invocations are intercepted: fields of a proxy read directly, e.g. from the same package or by field
+ * based serialization, hold their default values until a method of the proxy is invoked or
+ * {@link LazilyReadEntity#readAllProperties()} is called.
+ */
+class LazyEntityFactory {
+
+	private static final Method READ_ALL_PROPERTIES = ReflectionUtils.findMethod(LazilyReadEntity.class, "readAllProperties");
+
+	private final Map<Class<?>, LazyType> lazyTypes = new ConcurrentHashMap<Class<?>, LazyType>();
+	private final ConversionService conversionService;
+
+	LazyEntityFactory(ConversionService conversionService) {
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Proxies can be created for non final types instantiated by a visible no-argument constructor whose property
+	 * getters and setters are not final, final accessors could not be intercepted.
+	 */
+	static boolean isSupported(AerospikePersistentEntity<?> entity) {
+		Class<?> type = entity.getType();
+		PreferredConstructor<?, AerospikePersistentProperty> constructor = entity.getPersistenceConstructor();
+		boolean topLevel = !type.isMemberClass() || Modifier.isStatic(type.getModifiers());
+		if (!topLevel || Modifier.isFinal(type.getModifiers()) || constructor == null
+				|| !constructor.isNoArgConstructor() || Modifier.isPrivate(constructor.getConstructor().getModifiers())) {
+			return false;
+		}
+		boolean[] finalAccessor = new boolean[1];
+		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+			finalAccessor[0] |= isFinal(property.getGetter()) || isFinal(property.getSetter());
+		});
+		return !finalAccessor[0];
+	}
+
+	private static boolean isFinal(Method method) {
+		return method != null && Modifier.isFinal(method.getModifiers());
+	}
+
+	/**
+	 * Creates a proxy of the given entity whose properties are read from the value provider on first access.
+	 *
+	 * @param entity entity to create the proxy of, must be {@link #isSupported(AerospikePersistentEntity) supported}.
+	 * @param valueProvider provider of the converted property values.
+	 * @return accessor of the proxy, id, expiration and version properties are left to the caller.
+	 */
+	ConvertingPropertyAccessor create(AerospikePersistentEntity<?> entity,
+									  PropertyValueProvider<AerospikePersistentProperty> valueProvider) {
+		LazyType lazyType = lazyTypes.computeIfAbsent(entity.getType(), type -> new LazyType(entity));
+		Set<AerospikePersistentProperty> pendingProperties = new LinkedHashSet<AerospikePersistentProperty>();
+		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+			if (!property.isIdProperty() && !property.isExpirationProperty() && !property.isVersionProperty()) {
+				pendingProperties.add(property);
+			}
+		});
+
+		LazyReadingInterceptor interceptor = new LazyReadingInterceptor(lazyType, valueProvider, pendingProperties);
+		Object proxy = lazyType.newInstance(interceptor);
+		ConvertingPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(proxy),
+				conversionService);
+		interceptor.setAccessor(accessor);
+		return accessor;
+	}
+
+	private static class LazyType {
+
+		private final Class<?> proxyType;
+		private final Constructor<?> constructor;
+		private final Map<Method, AerospikePersistentProperty> getters = new HashMap<Method, AerospikePersistentProperty>();
+		private final Map<Method, AerospikePersistentProperty> setters = new HashMap<Method, AerospikePersistentProperty>();
+
+		LazyType(AerospikePersistentEntity<?> entity) {
+			Enhancer enhancer = new Enhancer();
+			enhancer.setSuperclass(entity.getType());
+			enhancer.setInterfaces(new Class<?>[] { LazilyReadEntity.class });
+			enhancer.setCallbackType(MethodInterceptor.class);
+			enhancer.setClassLoader(entity.getType().getClassLoader());
+			// the proxies must not expose the Factory accessors, e.g. as getCallbacks() to serializers
+			enhancer.setUseFactory(false);
+
+			this.proxyType = enhancer.createClass();
+			try {
+				this.constructor = proxyType.getDeclaredConstructor();
+				ReflectionUtils.makeAccessible(constructor);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("No default constructor found for " + proxyType, e);
+			}
+
+			entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+				if (property.getGetter() != null) {
+					getters.put(property.getGetter(), property);
+				}
+				if (property.getSetter() != null) {
+					setters.put(property.getSetter(), property);
+				}
+			});
+		}
+
+		Object newInstance(MethodInterceptor interceptor) {
+			Enhancer.registerCallbacks(proxyType, new Callback[] { interceptor });
+			try {
+				return constructor.newInstance();
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Failed to instantiate " + proxyType, e);
+			} finally {
+				Enhancer.registerCallbacks(proxyType, null);
+			}
+		}
+	}
+
+	private static class LazyReadingInterceptor implements MethodInterceptor {
+
+		private final LazyType lazyType;
+		private final PropertyValueProvider<AerospikePersistentProperty> valueProvider;
+		private final Set<AerospikePersistentProperty> pendingProperties;
+		private volatile PersistentPropertyAccessor accessor;
+
+		LazyReadingInterceptor(LazyType lazyType, PropertyValueProvider<AerospikePersistentProperty> valueProvider,
+							   Set<AerospikePersistentProperty> pendingProperties) {
+			this.lazyType = lazyType;
+			this.valueProvider = valueProvider;
+			this.pendingProperties = pendingProperties;
+		}
+
+		void setAccessor(PersistentPropertyAccessor accessor) {
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+			if (accessor == null) {
+				// invoked by the constructor, the properties are read afterwards
+				return methodProxy.invokeSuper(proxy, args);
+			}
+			if (READ_ALL_PROPERTIES.equals(method)) {
+				readAll();
+				return null;
+			}
+
+			AerospikePersistentProperty property = lazyType.getters.get(method);
+			if (property != null) {
+				read(property);
+			} else {
+				property = lazyType.setters.get(method);
+				if (property != null) {
+					skip(property);
+				} else {
+					readAll();
+				}
+			}
+			return methodProxy.invokeSuper(proxy, args);
+		}
+
+		private synchronized void read(AerospikePersistentProperty property) {
+			if (pendingProperties.remove(property)) {
+				setProperty(property);
+			}
+		}
+
+		private synchronized void skip(AerospikePersistentProperty property) {
+			pendingProperties.remove(property);
+		}
+
+		private synchronized void readAll() {
+			if (pendingProperties.isEmpty()) {
+				return;
+			}
+			AerospikePersistentProperty[] properties = pendingProperties.toArray(
+					new AerospikePersistentProperty[pendingProperties.size()]);
+			pendingProperties.clear();
+			for (AerospikePersistentProperty property : properties) {
+				setProperty(property);
+			}
+		}
+
+		private void setProperty(AerospikePersistentProperty property) {
+			Object value = valueProvider.getPropertyValue(property);
+			if (property.getType().isPrimitive() && value == null) {
+				return;
+			}
+			accessor.setProperty(property, value);
+		}
+	}
+}
@@ -38,6 +38,8 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
 	private final GenericConversionService conversionService;
 	private final MappingAerospikeReadConverter readConverter;
 	private final MappingAerospikeWriteConverter writeConverter;
+	private final AerospikeTypeAliasAccessor typeAliasAccessor;
+	private final EntityInstantiators entityInstantiators;
 
 	/**
 	 * Creates a new {@link MappingAerospikeConverter}.
@@ -46,8 +48,9 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
 									 AerospikeTypeAliasAccessor aerospikeTypeAliasAccessor) {
 		this.conversions = conversions;
 		this.conversionService = new DefaultConversionService();
+		this.typeAliasAccessor = aerospikeTypeAliasAccessor;
 
-		EntityInstantiators entityInstantiators = new EntityInstantiators();
+		this.entityInstantiators = new EntityInstantiators();
 		TypeMapper<Map<String, Object>> typeMapper = new DefaultTypeMapper<>(aerospikeTypeAliasAccessor,
 				mappingContext, asList(new SimpleTypeInformationMapper()));
 
@@ -64,12 +67,33 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
 	 * (non-Javadoc)
 	 * @see org.springframework.data.convert.EntityConverter#getConversionService()
 	 */
+	/**
+	 * @return the instantiators creating the entities read by this converter.
+	 */
+	public EntityInstantiators getEntityInstantiators() {
+		return entityInstantiators;
+	}
+
 	@Override
 	public ConversionService getConversionService() {
 		return conversionService;
 	}
 
 
+	/**
+	 * @return the {@link AerospikeTypeAliasAccessor} used to store type information.
+	 */
+	public AerospikeTypeAliasAccessor getAerospikeTypeAliasAccessor() {
+		return typeAliasAccessor;
+	}
+
+	/**
+	 * Enables lazy reads, see {@link MappingAerospikeReadConverter#setLazyReads(boolean)}.
+	 */
+	public void setLazyReads(boolean lazyReads) {
+		readConverter.setLazyReads(lazyReads);
+	}
+
 	@Override
 	public <R> R read(Class<R> type, final AerospikeReadData data) {
 		return readConverter.read(type, data);
@@ -79,4 +103,12 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
 	public void write(Object source, AerospikeWriteData sink) {
 		writeConverter.write(source, sink);
 	}
+
+	/**
+	 * Writes only the key and the expiration of the given source into the sink, see
+	 * {@link MappingAerospikeWriteConverter#writeKey(Object, AerospikeWriteData)}.
+	 */
+	public void writeKey(Object source, AerospikeWriteData sink) {
+		writeConverter.writeKey(source, sink);
+	}
 }
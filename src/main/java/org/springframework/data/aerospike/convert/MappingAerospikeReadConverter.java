@@ -8,6 +8,7 @@ import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.utility.BlobUtils;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.convert.EntityReader;
@@ -21,7 +22,9 @@ import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -37,6 +40,7 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 	private final AerospikeMappingContext mappingContext;
 	private final CustomConversions conversions;
 	private final GenericConversionService conversionService;
+	private volatile LazyEntityFactory lazyEntityFactory;
 
 	public MappingAerospikeReadConverter(EntityInstantiators entityInstantiators, TypeMapper<Map<String, Object>> typeMapper,
 										 AerospikeMappingContext mappingContext, CustomConversions conversions,
@@ -48,6 +52,14 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 		this.conversionService = conversionService;
 	}
 
+	/**
+	 * Enables lazy reads: entities with a no-argument persistence constructor and no final property accessors are
+	 * returned as {@link LazilyReadEntity} proxies that convert each property on first access. Disabled by default.
+	 */
+	public void setLazyReads(boolean lazyReads) {
+		this.lazyEntityFactory = lazyReads ? new LazyEntityFactory(conversionService) : null;
+	}
+
 	/*
 	* (non-Javadoc)
 	* @see org.springframework.data.convert.EntityReader#read(java.lang.Class, S)
@@ -68,7 +80,10 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 
 		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(typeToUse);
 		RecordReadingPropertyValueProvider propertyValueProvider = new RecordReadingPropertyValueProvider(data.getKey(), record);
-		ConvertingPropertyAccessor accessor = getConvertingPropertyAccessor(entity, propertyValueProvider);
+		LazyEntityFactory lazyEntityFactory = this.lazyEntityFactory;
+		boolean lazy = lazyEntityFactory != null && LazyEntityFactory.isSupported(entity);
+		ConvertingPropertyAccessor accessor = lazy ? lazyEntityFactory.create(entity, propertyValueProvider)
+				: getConvertingPropertyAccessor(entity, propertyValueProvider);
 
 		AerospikePersistentProperty idProperty = entity.getIdProperty();
 		if (idProperty != null) {
@@ -81,7 +96,7 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 			accessor.setProperty(expirationProperty, value);
 		}
 
-		return convertProperties(entity, propertyValueProvider, accessor);
+		return lazy ? (R) accessor.getBean() : convertProperties(entity, propertyValueProvider, accessor);
 	}
 
 	private <T> T getIdValue(Key key, Map<String, Object> data, AerospikePersistentProperty property) {
@@ -127,6 +142,10 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 		Class<?> targetClass = propertyType.getType();
 		if (conversions.hasCustomReadTarget(source.getClass(), targetClass)) {
 			return (T) conversionService.convert(source, targetClass);
+		} else if (targetClass == ByteBuffer.class && source instanceof byte[]) {
+			return (T) BlobUtils.toByteBuffer((byte[]) source);
+		} else if (targetClass.isArray() && targetClass.isInstance(source)) { // stored as serialized Java object
+			return (T) source;
 		} else if (propertyType.isCollectionLike()) {
 			return convertCollection((Collection) source, propertyType);
 		} else if (propertyType.isMap()) {
@@ -168,14 +187,90 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 		TypeInformation<?> elementType = propertyType.getComponentType();
 		Class<?> elementClass = elementType == null ? null : elementType.getType();
 
+		if (collectionClass.isArray() && collectionClass.getComponentType().isPrimitive()) {
+			Object array = readPrimitiveArray(source, collectionClass.getComponentType());
+			if (array != null) {
+				return (R) array;
+			}
+		}
+
 		Collection<Object> items = collectionClass.isArray() ? new ArrayList<>() :
 				CollectionFactory.createCollection(collectionClass, elementClass, source.size());
 
-		source.forEach(item -> items.add(readValue(item, elementType)));
+		if (elementClass != null && isNativeElementType(elementClass)) {
+			for (Object item : source) {
+				boolean nativeItem = item == null || item.getClass() == elementClass;
+				items.add(nativeItem ? item : readValue(item, elementType));
+			}
+		} else {
+			source.forEach(item -> items.add(readValue(item, elementType)));
+		}
 
 		return (R) convertIfNeeded(items, propertyType.getType());
 	}
 
+	/**
+	 * Items of boxed primitive or {@link String} type are read as they are unless a custom converter is registered for
+	 * them.
+	 */
+	private boolean isNativeElementType(Class<?> type) {
+		return (ClassUtils.isPrimitiveWrapper(type) || type == String.class) && !conversions.hasCustomReadTarget(type, type);
+	}
+
+	/**
+	 * Copies a list of numbers into an array of numeric primitives without per item conversion.
+	 *
+	 * @return the array or {@literal null} if the component type is not numeric or an item is not a number.
+	 */
+	private Object readPrimitiveArray(Collection<?> source, Class<?> componentClass) {
+		Class<?> checkedClass = null;
+		for (Object item : source) {
+			if (!(item instanceof Number)) {
+				return null;
+			}
+			if (item.getClass() != checkedClass) {
+				if (conversions.hasCustomReadTarget(item.getClass(), componentClass)) {
+					return null;
+				}
+				checkedClass = item.getClass();
+			}
+		}
+
+		int index = 0;
+		if (componentClass == long.class) {
+			long[] array = new long[source.size()];
+			for (Object item : source) {
+				array[index++] = ((Number) item).longValue();
+			}
+			return array;
+		} else if (componentClass == int.class) {
+			int[] array = new int[source.size()];
+			for (Object item : source) {
+				array[index++] = ((Number) item).intValue();
+			}
+			return array;
+		} else if (componentClass == short.class) {
+			short[] array = new short[source.size()];
+			for (Object item : source) {
+				array[index++] = ((Number) item).shortValue();
+			}
+			return array;
+		} else if (componentClass == double.class) {
+			double[] array = new double[source.size()];
+			for (Object item : source) {
+				array[index++] = ((Number) item).doubleValue();
+			}
+			return array;
+		} else if (componentClass == float.class) {
+			float[] array = new float[source.size()];
+			for (Object item : source) {
+				array[index++] = ((Number) item).floatValue();
+			}
+			return array;
+		}
+		return null;
+	}
+
 	private Object convertIfNeeded(Object value, Class<?> targetClass) {
 		if (Enum.class.isAssignableFrom(targetClass)) {
 			return Enum.valueOf((Class<Enum>) targetClass, value.toString());
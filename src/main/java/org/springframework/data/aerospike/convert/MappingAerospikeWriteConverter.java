@@ -5,6 +5,7 @@ import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.utility.BlobUtils;
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.PropertyHandler;
@@ -13,9 +14,14 @@ import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import static org.springframework.data.aerospike.convert.AerospikeMetaData.USER_KEY;
@@ -27,6 +33,7 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 	private final AerospikeMappingContext mappingContext;
 	private final CustomConversions conversions;
 	private final GenericConversionService conversionService;
+	private final ConcurrentMap<Class<?>, EntityWriteMetadata> entityWriteMetadata = new ConcurrentHashMap<>();
 
 	public MappingAerospikeWriteConverter(TypeMapper<Map<String, Object>> typeMapper,
 										  AerospikeMappingContext mappingContext, CustomConversions conversions,
@@ -43,29 +50,67 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 			return;
 		}
 
-		boolean hasCustomConverter = conversions.hasCustomWriteTarget(source.getClass(), AerospikeWriteData.class);
+		if (source instanceof LazilyReadEntity) {
+			((LazilyReadEntity) source).readAllProperties();
+		}
+
+		Class<?> sourceType = ClassUtils.getUserClass(source);
+		boolean hasCustomConverter = conversions.hasCustomWriteTarget(sourceType, AerospikeWriteData.class);
 		if (hasCustomConverter) {
 			convertToAerospikeWriteData(source, data);
 			return;
 		}
 
-		TypeInformation<?> type = ClassTypeInformation.from(source.getClass());
-		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(source.getClass());
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceType);
 		ConvertingPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(source), conversionService);
+		EntityWriteMetadata metadata = entityWriteMetadata.computeIfAbsent(sourceType, t -> createWriteMetadata(entity));
+		data.ensureCapacity(metadata.binCount);
+
+		String id = writeKey(entity, accessor, data);
+		if (id != null) {
+			data.addBin(USER_KEY, id);
+		}
+
+		metadata.typeBins.forEach(data::addBin);
+		writeProperties(entity, accessor, data::addBin);
+	}
 
+	/**
+	 * Writes only the key and the expiration of the given source, properties are not converted unless the source type
+	 * has a custom converter.
+	 */
+	public void writeKey(Object source, final AerospikeWriteData data) {
+		if (source == null) {
+			return;
+		}
+
+		Class<?> sourceType = ClassUtils.getUserClass(source);
+		if (conversions.hasCustomWriteTarget(sourceType, AerospikeWriteData.class)) {
+			if (source instanceof LazilyReadEntity) {
+				((LazilyReadEntity) source).readAllProperties();
+			}
+			convertToAerospikeWriteData(source, data);
+			return;
+		}
+
+		// the id and the expiration of lazily read entities are set eagerly, their other properties are not needed
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceType);
+		ConvertingPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(source), conversionService);
+		writeKey(entity, accessor, data);
+	}
+
+	private String writeKey(AerospikePersistentEntity<?> entity, ConvertingPropertyAccessor accessor, AerospikeWriteData data) {
 		AerospikePersistentProperty idProperty = entity.getIdProperty();
+		String id = null;
 		if (idProperty != null) {
-			String id = accessor.getProperty(idProperty, String.class);
+			id = accessor.getProperty(idProperty, String.class);
 			Assert.notNull(id, "Id must not be null!");
 
 			data.setKey(new Key(entity.getNamespace(), entity.getSetName(), id));
-			data.addBin(USER_KEY, id);
 		}
 
 		data.setExpiration(getExpiration(entity, accessor));
-
-		Map<String, Object> convertedProperties = convertProperties(type, entity, accessor);
-		convertedProperties.entrySet().forEach(e -> data.addBin(e.getKey(), e.getValue()));
+		return id;
 	}
 
 	private void convertToAerospikeWriteData(Object source, AerospikeWriteData data) {
@@ -78,18 +123,35 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 	private Map<String, Object> convertProperties(TypeInformation<?> type, AerospikePersistentEntity<?> entity, ConvertingPropertyAccessor accessor) {
 		Map<String, Object> target = new HashMap<>();
 		typeMapper.writeType(type, target);
-		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+		writeProperties(entity, accessor, target::put);
+		return target;
+	}
 
-			Object value = accessor.getProperty(property);
+	private void writeProperties(AerospikePersistentEntity<?> entity, ConvertingPropertyAccessor accessor,
+								 BiConsumer<String, Object> target) {
+		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
 			if (isNotWritable(property)) {
 				return;
 			}
+			Object value = accessor.getProperty(property);
 			Object valueToWrite = getValueToWrite(value, property.getTypeInformation());
 			if(valueToWrite != null) {
-				target.put(property.getFieldName(), valueToWrite);
+				target.accept(property.getFieldName(), valueToWrite);
 			}
 		});
-		return target;
+	}
+
+	private EntityWriteMetadata createWriteMetadata(AerospikePersistentEntity<?> entity) {
+		Map<String, Object> typeBins = new LinkedHashMap<>();
+		typeMapper.writeType(entity.getTypeInformation(), typeBins);
+
+		int[] writableProperties = new int[1];
+		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+			if (!isNotWritable(property)) {
+				writableProperties[0]++;
+			}
+		});
+		return new EntityWriteMetadata(typeBins, writableProperties[0] + typeBins.size() + 1);
 	}
 
 	private boolean isNotWritable(AerospikePersistentProperty property) {
@@ -99,6 +161,11 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 	private Object getValueToWrite(Object value, TypeInformation<?> type) {
 		if (value == null) {
 			return null;
+		}
+
+		List<Object> primitives = convertPrimitiveArray(value);
+		if (primitives != null) {
+			return primitives;
 		} else if (type == null || conversions.isSimpleType(value.getClass())) {
 			return getSimpleValueToWrite(value);
 		} else {
@@ -107,6 +174,9 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 	}
 
 	private Object getSimpleValueToWrite(Object value) {
+		if (value instanceof ByteBuffer) {
+			return BlobUtils.toValue((ByteBuffer) value);
+		}
 		Class<?> customTarget = conversions.getCustomWriteTarget(value.getClass());
 		if (customTarget != null) {
 			return conversionService.convert(value, customTarget);
@@ -139,9 +209,75 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 
 		TypeInformation<?> componentType = type.getComponentType();
 
+		if (componentType != null && isNativeElementType(componentType.getType())) {
+			Class<?> componentClass = componentType.getType();
+			List<Object> target = new ArrayList<>(source.size());
+			for (Object element : source) {
+				boolean nativeElement = element == null || element.getClass() == componentClass;
+				target.add(nativeElement ? element : getValueToWrite(element, componentType));
+			}
+			return target;
+		}
+
 		return source.stream().map(element -> getValueToWrite(element, componentType)).collect(Collectors.toList());
 	}
 
+	/**
+	 * Elements of boxed primitive or {@link String} type are written as they are unless a custom converter is registered
+	 * for them.
+	 */
+	private boolean isNativeElementType(Class<?> type) {
+		return (ClassUtils.isPrimitiveWrapper(type) || type == String.class) && !conversions.hasCustomWriteTarget(type);
+	}
+
+	/**
+	 * Copies arrays of numeric primitives into a list, so that they are stored as Aerospike lists instead of serialized
+	 * Java objects, without reflective element access or per element conversion lookups.
+	 *
+	 * @return the list of elements or {@literal null} if the value is not an array of numeric primitives.
+	 */
+	private List<Object> convertPrimitiveArray(Object value) {
+		if (!value.getClass().isArray()) {
+			return null;
+		} else if (value instanceof long[] && isNativeElementType(Long.class)) {
+			long[] array = (long[]) value;
+			List<Object> target = new ArrayList<>(array.length);
+			for (long element : array) {
+				target.add(element);
+			}
+			return target;
+		} else if (value instanceof int[] && isNativeElementType(Integer.class)) {
+			int[] array = (int[]) value;
+			List<Object> target = new ArrayList<>(array.length);
+			for (int element : array) {
+				target.add(element);
+			}
+			return target;
+		} else if (value instanceof short[] && isNativeElementType(Short.class)) {
+			short[] array = (short[]) value;
+			List<Object> target = new ArrayList<>(array.length);
+			for (short element : array) {
+				target.add(element);
+			}
+			return target;
+		} else if (value instanceof double[] && isNativeElementType(Double.class)) {
+			double[] array = (double[]) value;
+			List<Object> target = new ArrayList<>(array.length);
+			for (double element : array) {
+				target.add(element);
+			}
+			return target;
+		} else if (value instanceof float[] && isNativeElementType(Float.class)) {
+			float[] array = (float[]) value;
+			List<Object> target = new ArrayList<>(array.length);
+			for (float element : array) {
+				target.add(element);
+			}
+			return target;
+		}
+		return null;
+	}
+
 	private Map<String, Object> convertMap(final Map<Object, Object> source, final TypeInformation<?> type) {
 		Assert.notNull(source, "Given map must not be null!");
 		Assert.notNull(type, "Given type must not be null!");
@@ -204,4 +340,19 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 
 		return expirationInSeconds;
 	}
+
+	/**
+	 * Bins written for every instance of an entity type: the type alias bins and the maximum number of bins, used to
+	 * size the bins of {@link AerospikeWriteData} up front.
+	 */
+	private static class EntityWriteMetadata {
+
+		private final Map<String, Object> typeBins;
+		private final int binCount;
+
+		EntityWriteMetadata(Map<String, Object> typeBins, int binCount) {
+			this.typeBins = Collections.unmodifiableMap(typeBins);
+			this.binCount = binCount;
+		}
+	}
 }
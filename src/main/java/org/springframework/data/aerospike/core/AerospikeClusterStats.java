@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Samples the health of the cluster in the background: the nodes known to the client, their partition map generation
+ * and the memory and disk usage of the namespace, requested from all nodes in parallel with info calls. Callers read
+ * the last {@link Snapshot}, they never wait for the cluster. The snapshot can be exposed by a health indicator or bound
+ * to gauges of a metrics library.
+ */
+@Slf4j
+public class AerospikeClusterStats implements InitializingBean, DisposableBean {
+
+	private static final String PARTITION_GENERATION = "partition-generation";
+
+	private final AerospikeClient client;
+	private final String namespace;
+	private long samplingIntervalMillis;
+	private volatile Snapshot snapshot = new Snapshot(0, Collections.<NodeSnapshot>emptyList());
+	private ScheduledExecutorService scheduler;
+	private ExecutorService infoExecutor;
+
+	public AerospikeClusterStats(AerospikeClient client, String namespace) {
+		Assert.notNull(client, "Aerospike client must not be null!");
+		Assert.notNull(namespace, "Namespace must not be null!");
+		this.client = client;
+		this.namespace = namespace;
+	}
+
+	/**
+	 * Sets the interval of the background sampling, {@code 0} (the default) disables it, {@link #sample()} can still be
+	 * called on demand.
+	 */
+	public void setSamplingIntervalMillis(long samplingIntervalMillis) {
+		Assert.isTrue(samplingIntervalMillis >= 0, "Sampling interval must not be negative!");
+		this.samplingIntervalMillis = samplingIntervalMillis;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (samplingIntervalMillis > 0) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("aerospike-cluster-stats"));
+			scheduler.scheduleWithFixedDelay(this::sampleQuietly, 0, samplingIntervalMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+		synchronized (this) {
+			if (infoExecutor != null) {
+				infoExecutor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * @return the last sampled state of the cluster, never {@literal null}.
+	 */
+	public Snapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Requests the state of all nodes in parallel and waits for the responses.
+	 *
+	 * @return the new snapshot.
+	 */
+	public Snapshot sample() {
+		Node[] nodes = client.getNodes();
+		List<CompletableFuture<NodeSnapshot>> requests = new ArrayList<CompletableFuture<NodeSnapshot>>(nodes.length);
+		ExecutorService executor = getInfoExecutor();
+		for (Node node : nodes) {
+			requests.add(CompletableFuture.supplyAsync(() -> sample(node), executor));
+		}
+
+		List<NodeSnapshot> nodeSnapshots = new ArrayList<NodeSnapshot>(nodes.length);
+		for (CompletableFuture<NodeSnapshot> request : requests) {
+			nodeSnapshots.add(request.join());
+		}
+		Snapshot sampled = new Snapshot(System.currentTimeMillis(), Collections.unmodifiableList(nodeSnapshots));
+		this.snapshot = sampled;
+		return sampled;
+	}
+
+	private void sampleQuietly() {
+		try {
+			sample();
+		} catch (RuntimeException e) {
+			log.warn("Failed to sample cluster statistics", e);
+		}
+	}
+
+	private NodeSnapshot sample(Node node) {
+		try {
+			Map<String, String> info = Info.request(node, PARTITION_GENERATION, "namespace/" + namespace);
+			return new NodeSnapshot(node.getName(), node.getHost().toString(), node.isActive(),
+					parseLong(info.get(PARTITION_GENERATION)), parseProperties(info.get("namespace/" + namespace)), null);
+		} catch (RuntimeException e) {
+			return new NodeSnapshot(node.getName(), node.getHost().toString(), node.isActive(), -1,
+					Collections.<String, String>emptyMap(), e.toString());
+		}
+	}
+
+	private synchronized ExecutorService getInfoExecutor() {
+		if (infoExecutor == null) {
+			infoExecutor = Executors.newCachedThreadPool(daemonThreads("aerospike-cluster-info"));
+		}
+		return infoExecutor;
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static Map<String, String> parseProperties(String response) {
+		Map<String, String> properties = new HashMap<String, String>();
+		if (response == null) {
+			return properties;
+		}
+		for (String property : response.split(";")) {
+			int separator = property.indexOf('=');
+			if (separator > 0) {
+				properties.put(property.substring(0, separator), property.substring(separator + 1));
+			}
+		}
+		return Collections.unmodifiableMap(properties);
+	}
+
+	private static long parseLong(String value) {
+		if (value == null) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * State of the cluster at a point in time.
+	 */
+	public static class Snapshot {
+
+		private final long timestamp;
+		private final List<NodeSnapshot> nodes;
+
+		Snapshot(long timestamp, List<NodeSnapshot> nodes) {
+			this.timestamp = timestamp;
+			this.nodes = nodes;
+		}
+
+		/**
+		 * @return time of the sampling in milliseconds since the epoch, {@code 0} if the cluster was not sampled yet.
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		public List<NodeSnapshot> getNodes() {
+			return nodes;
+		}
+
+		/**
+		 * @return whether nodes are known and all of them are active and answered the info requests.
+		 */
+		public boolean isHealthy() {
+			if (nodes.isEmpty()) {
+				return false;
+			}
+			for (NodeSnapshot node : nodes) {
+				if (!node.isActive() || node.getError() != null) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * State of a single node at a point in time.
+	 */
+	public static class NodeSnapshot {
+
+		private final String name;
+		private final String host;
+		private final boolean active;
+		private final long partitionGeneration;
+		private final Map<String, String> namespaceStatistics;
+		private final String error;
+
+		NodeSnapshot(String name, String host, boolean active, long partitionGeneration,
+					 Map<String, String> namespaceStatistics, String error) {
+			this.name = name;
+			this.host = host;
+			this.active = active;
+			this.partitionGeneration = partitionGeneration;
+			this.namespaceStatistics = namespaceStatistics;
+			this.error = error;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getHost() {
+			return host;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		/**
+		 * @return generation of the partition map of the node, {@code -1} if it could not be requested.
+		 */
+		public long getPartitionGeneration() {
+			return partitionGeneration;
+		}
+
+		/**
+		 * @return statistics of the namespace as returned by the node, empty if they could not be requested.
+		 */
+		public Map<String, String> getNamespaceStatistics() {
+			return namespaceStatistics;
+		}
+
+		/**
+		 * @return bytes of memory used by the namespace, {@code -1} if unknown.
+		 */
+		public long getMemoryUsedBytes() {
+			return parseLong(namespaceStatistics.get("memory_used_bytes"));
+		}
+
+		/**
+		 * @return bytes of disk used by the namespace, {@code -1} if unknown or the namespace is in memory only.
+		 */
+		public long getDeviceUsedBytes() {
+			return parseLong(namespaceStatistics.get("device_used_bytes"));
+		}
+
+		/**
+		 * @return description of the failure of the info requests, {@literal null} if they succeeded.
+		 */
+		public String getError() {
+			return error;
+		}
+	}
+}
@@ -26,6 +26,8 @@ import com.aerospike.client.query.Statement;
 import org.springframework.data.aerospike.convert.AerospikeConverter;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
 import org.springframework.data.aerospike.utility.Utils;
 import org.springframework.data.keyvalue.core.AbstractKeyValueAdapter;
 import org.springframework.data.keyvalue.core.KeyValueAdapter;
@@ -37,7 +39,9 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An Aerospike-specific {@link KeyValueAdapter} to implement core sore interactions to be used by the
@@ -49,10 +53,13 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 
 	private final AerospikeConverter converter;
 	private final AerospikeClient client;
+	private final AerospikeMappingContext mappingContext;
+	private final Map<String, String> namespaces = new ConcurrentHashMap<String, String>();
 
 	private String namespace;
 	private final WritePolicy insertPolicy;
 	private final WritePolicy updatePolicy;
+	private volatile OperationRecorder recorder = OperationRecorder.NONE;
 
 	/**
 	 * Creates a new {@link AerospikeKeyValueAdapter} using the given {@link AerospikeClient} and
@@ -62,9 +69,24 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	 * @param converter must not be {@literal null}.
 	 */
 	public AerospikeKeyValueAdapter(AerospikeClient client, AerospikeConverter converter, String namespace) {
+		this(client, converter, null, namespace);
+	}
+
+	/**
+	 * Creates a new {@link AerospikeKeyValueAdapter} reading and writing the records of each keyspace in the namespace
+	 * of the entity stored in it, see {@link org.springframework.data.aerospike.mapping.Document#namespace()}.
+	 *
+	 * @param client must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param mappingContext context of the entities, the given namespace is used for all keyspaces if {@literal null}.
+	 * @param namespace namespace of the keyspaces without entity of their own.
+	 */
+	public AerospikeKeyValueAdapter(AerospikeClient client, AerospikeConverter converter,
+									AerospikeMappingContext mappingContext, String namespace) {
 
 		this.client = client;
 		this.converter = converter;
+		this.mappingContext = mappingContext;
 		this.namespace = namespace;
 		this.insertPolicy = new WritePolicy(this.client.writePolicyDefault);
 		this.updatePolicy = new WritePolicy(this.client.writePolicyDefault);
@@ -72,7 +94,13 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 		this.updatePolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
 	}
 
-	
+	/**
+	 * Sets the listener notified about every request sent by this adapter.
+	 */
+	public void setOperationListener(AerospikeOperationListener listener) {
+		this.recorder = OperationRecorder.of(listener);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.keyvalue.core.KeyValueAdapter#put(java.io.Serializable, java.lang.Object, java.io.Serializable)
@@ -81,9 +109,11 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	public Object put(Serializable id, Object item, Serializable keyspace) {
 		AerospikeWriteData data = AerospikeWriteData.forWrite();
 
-		converter.write(item, data);
+		String setName = keyspace.toString();
+		recorder.conversion(AerospikeOperationListener.WRITE, setName, () -> converter.write(item, data));
 
-		client.put(null, data.getKey(), data.getBinsAsArray());
+		recorder.operation(AerospikeOperationListener.PUT, data.getKey().namespace, setName,
+				() -> client.put(null, data.getKey(), data.getBinsAsArray()));
 
 		return item;
 	}
@@ -95,7 +125,8 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	@Override
 	public boolean contains(Serializable id, Serializable keyspace) {
 
-		return client.exists(null, makeKey(keyspace.toString(), id.toString()));
+		Key key = makeKey(keyspace.toString(), id.toString());
+		return recorder.operation(AerospikeOperationListener.EXISTS, key.namespace, key.setName, () -> client.exists(null, key));
 	}
 
 	/* 
@@ -106,12 +137,12 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	public Object get(Serializable id, Serializable keyspace) {
 
 		Key key = makeKey(keyspace.toString(), id.toString());
-		Record record = client.get(null, key);
+		Record record = recorder.operation(AerospikeOperationListener.GET, key.namespace, key.setName, () -> client.get(null, key));
 		if(record == null){
 			return null;
 		}
 		AerospikeReadData data = AerospikeReadData.forRead(key, record);
-		return converter.read(Object.class,  data);
+		return recorder.conversion(AerospikeOperationListener.READ, key.setName, () -> converter.read(Object.class, data));
 	}
 
 	/* 
@@ -121,14 +152,14 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	@Override
 	public Object delete(Serializable id, Serializable keyspace) {
 
-		Key key = new Key(namespace, keyspace.toString(), id.toString());
+		Key key = makeKey(keyspace.toString(), id.toString());
 
 		Object object = get(id, keyspace);
 
 		if (object != null) {
 			WritePolicy wp = new WritePolicy();
 			wp.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
-			client.delete(wp, key);
+			recorder.operation(AerospikeOperationListener.DELETE, key.namespace, key.setName, () -> client.delete(wp, key));
 		}
 
 		return object;
@@ -142,12 +173,13 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	public Collection<?> getAllOf(Serializable keyspace) {
 		
 		Statement statement = new Statement();
-		statement.setNamespace(namespace);
+		statement.setNamespace(getNamespace(keyspace.toString()));
 		statement.setSetName(keyspace.toString());
 
 		
 		List<Object> result = new ArrayList<Object>();
-		RecordSet recordSet = client.query(null, statement);
+		RecordSet recordSet = recorder.operation(AerospikeOperationListener.QUERY, statement.getNamespace(), statement.getSetName(),
+				() -> client.query(null, statement));
 		
 		while (recordSet.next()) {
 
@@ -176,7 +208,7 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	@Override
 	public void deleteAllOf(Serializable keyspace) {
 		//"set-config:context=namespace;id=namespace_name;set=set_name;set-delete=true;"
-		Utils.infoAll(client, "set-config:context=namespace;id=" + this.namespace + ";set=" + keyspace.toString() + ";set-delete=true;");
+		Utils.infoAll(client, "set-config:context=namespace;id=" + getNamespace(keyspace.toString()) + ";set=" + keyspace.toString() + ";set-delete=true;");
 	}
 
 	/* 
@@ -194,7 +226,25 @@ public class AerospikeKeyValueAdapter extends AbstractKeyValueAdapter {
 	public void destroy() throws Exception {}
 	
 	private Key makeKey(String set, Object keyValue){
-		return new Key(this.namespace, set, Value.get(keyValue));
+		return new Key(getNamespace(set), set, Value.get(keyValue));
+	}
+
+	/**
+	 * The namespace of the entity stored in the given set, the default namespace if the set has no known entity.
+	 */
+	private String getNamespace(String set) {
+		String entityNamespace = namespaces.get(set);
+		if (entityNamespace != null || mappingContext == null) {
+			return entityNamespace != null ? entityNamespace : namespace;
+		}
+		for (BasicAerospikePersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			if (set.equals(entity.getSetName())) {
+				// entities added later may still be found, so only resolved namespaces are cached
+				namespaces.put(set, entity.getNamespace());
+				return entity.getNamespace();
+			}
+		}
+		return namespace;
 	}
 	
 	@Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+/**
+ * Callback notified about the requests sent to Aerospike and the conversions of their records, e.g. to publish them
+ * as timers and distribution summaries of a metrics library. Notifications happen on the calling thread, so
+ * implementations must be fast and thread safe.
+ */
+public interface AerospikeOperationListener {
+
+	String GET = "get";
+	String BATCH_GET = "batch-get";
+	String EXISTS = "exists";
+	String BATCH_EXISTS = "batch-exists";
+	String PUT = "put";
+	String OPERATE = "operate";
+	String DELETE = "delete";
+	String QUERY = "query";
+	String SCAN = "scan";
+
+	String READ = "read";
+	String WRITE = "write";
+
+	/**
+	 * Listener ignoring all notifications.
+	 */
+	AerospikeOperationListener NONE = new AerospikeOperationListener() {
+	};
+
+	/**
+	 * Called after a request to the cluster completed or failed.
+	 *
+	 * @param operation type of the request, one of the constants of this interface.
+	 * @param namespace namespace of the request.
+	 * @param setName set of the request, {@literal null} if the request is not bound to a set.
+	 * @param resultCode {@link com.aerospike.client.ResultCode} of the request.
+	 * @param durationNanos time spent in the client, including network round trips.
+	 */
+	default void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+	}
+
+	/**
+	 * Called after a query issued through {@link AerospikeOperations#find(org.springframework.data.aerospike.repository.query.Query, Class)}
+	 * returned all its results.
+	 *
+	 * @param namespace namespace of the query.
+	 * @param setName set of the query.
+	 * @param plan how the query was executed: the bin whose secondary index was used, or a scan of the set, and the
+	 * qualifiers evaluated on the server.
+	 * @param resultCount number of returned records.
+	 * @param durationNanos time spent in the query, including the conversion of the records.
+	 */
+	default void onQuery(String namespace, String setName, String plan, int resultCount, long durationNanos) {
+	}
+
+	/**
+	 * Called after an entity was converted from or into a record.
+	 *
+	 * @param conversion {@link #READ} or {@link #WRITE}.
+	 * @param setName set of the record.
+	 * @param durationNanos time spent in the converter.
+	 */
+	default void onConversion(String conversion, String setName, long durationNanos) {
+	}
+
+	/**
+	 * Called after a batch request completed.
+	 *
+	 * @param operation type of the request, one of the constants of this interface.
+	 * @param setName set of the request.
+	 * @param batchSize number of requested keys.
+	 * @param resultCount number of found records.
+	 */
+	default void onBatch(String operation, String setName, int batchSize, int resultCount) {
+	}
+}
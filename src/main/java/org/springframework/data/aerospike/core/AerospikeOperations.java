@@ -16,6 +16,7 @@
 package org.springframework.data.aerospike.core;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -86,19 +87,88 @@ public interface AerospikeOperations {//extends KeyValueOperations {
 	 */
 	void update(Object objectToUpdate);
 
+	/**
+	 * Update operation using the WritePolicy.recordExisits policy of UPDATE_ONLY that writes only the bins of the given
+	 * properties, other bins of the stored record are left untouched. Properties with {@literal null} value are deleted.
+	 * If document has version property the generation is checked.
+	 *
+	 * @param objectToUpdate
+	 * @param fields names of the properties to update
+	 */
+	void update(Object objectToUpdate, Collection<String> fields);
+
 	void delete(Class<?> type);
 
 	boolean delete(Serializable id, Class<?> type);
 	boolean delete(Object objectToDelete);
 
 	boolean exists(Serializable id, Class<?> type);
+
+	/**
+	 * Checks the existence of the records with the given ids in batch requests, split into sub-batches like the reads
+	 * of {@link #findByIds(Collection, Class)}.
+	 *
+	 * @param ids ids of the records, must not be {@literal null}.
+	 * @param type type of the entity, must not be {@literal null}.
+	 * @return whether a record exists for each of the given ids, in the iteration order of the ids.
+	 */
+	<ID> Map<ID, Boolean> existsAll(Collection<ID> ids, Class<?> type);
+
+	/**
+	 * Deletes the records with the given ids, reusing one write policy for all of them. Aerospike has no batch delete,
+	 * each record is deleted by a request of its own; the requests run concurrently only if the implementation is
+	 * configured with an executor for them, e.g. {@link AerospikeTemplate#setBatchExecutor}.
+	 *
+	 * @param ids ids of the records, must not be {@literal null}.
+	 * @param type type of the entity, must not be {@literal null}.
+	 * @return whether a record existed and was deleted for each of the given ids, in the iteration order of the ids.
+	 * @throws org.springframework.data.aerospike.DeleteAllFailureException if some deletes failed, carrying the results
+	 * of the others.
+	 */
+	<ID> Map<ID, Boolean> deleteAll(Collection<ID> ids, Class<?> type);
+
+	/**
+	 * Deletes the records of the given documents like {@link #deleteAll(Collection, Class)}. The key of each record is
+	 * resolved from its document, so that documents of subclasses and documents with a custom
+	 * {@link org.springframework.data.aerospike.convert.AerospikeWriteData} converter are deleted from their own set.
+	 *
+	 * @param documents documents to delete, must not be {@literal null}.
+	 * @return whether a record existed and was deleted for the id of each of the given documents, in their iteration
+	 * order.
+	 * @throws org.springframework.data.aerospike.DeleteAllFailureException if some deletes failed, carrying the results
+	 * of the others.
+	 */
+	Map<Object, Boolean> deleteAll(Iterable<?> documents);
 	
 	<T> Iterable<T> find(Query<?> query, Class<T> type);
+
+	/**
+	 * Same as {@link #find(Query, Class)} but reads only the given bins, unmapped properties are left unset.
+	 *
+	 * @param binNames names of the bins to read, must not be {@literal null}.
+	 */
+	<T> Iterable<T> find(Query<?> query, Class<T> type, Collection<String> binNames);
+
 	<T> List<T> findAll(Class<T> type);
 
 	<T> T findById(Serializable id, Class<T> type);
+
+	/**
+	 * Same as {@link #findById(Serializable, Class)} but reads only the given bins, unmapped properties are left unset.
+	 *
+	 * @param binNames names of the bins to read, must not be {@literal null}.
+	 */
+	<T> T findById(Serializable id, Class<T> type, Collection<String> binNames);
+
 	<T> List<T> findByIds(Collection<?> ids, Class<T> type);
 
+	/**
+	 * Same as {@link #findByIds(Collection, Class)} but reads only the given bins, unmapped properties are left unset.
+	 *
+	 * @param binNames names of the bins to read, must not be {@literal null}.
+	 */
+	<T> List<T> findByIds(Collection<?> ids, Class<T> type, Collection<String> binNames);
+
 	<T> T add(T objectToAddTo, Map<String, Long> values);
 	<T> T add(T objectToAddTo, String binName, long value);
 
@@ -106,7 +176,38 @@ public interface AerospikeOperations {//extends KeyValueOperations {
 	<T> T append(T objectToAppendTo, String binName, String value);
 	<T> T prepend(T objectToPrependTo, Map<String, String> values);
 	<T> T prepend(T objectToPrependTo, String binName, String value);
-	
+
+	/**
+	 * Starts a chain of operations on the record with the given id, executed atomically in a single round trip.
+	 * The entity is not read or converted up front.
+	 *
+	 * @param type type of the entity, must not be {@literal null}.
+	 * @param id id of the record, must not be {@literal null}.
+	 * @return builder of the operations.
+	 */
+	<T> OperationsBuilder<T> operate(Class<T> type, Serializable id);
+
+	/**
+	 * Writes the remaining bytes of the buffer into a single bin of the record with the given id. Heap buffers are sent
+	 * without copying their content, the position of the buffer is not changed.
+	 *
+	 * @param type type of the entity, must not be {@literal null}.
+	 * @param id id of the record, must not be {@literal null}.
+	 * @param binName name of the bin, must not be {@literal null}.
+	 * @param blob content of the bin, must not be {@literal null}.
+	 */
+	void putBlob(Class<?> type, Serializable id, String binName, ByteBuffer blob);
+
+	/**
+	 * Reads a single bin of the record with the given id, the returned buffer wraps the bytes received from the client.
+	 *
+	 * @param type type of the entity, must not be {@literal null}.
+	 * @param id id of the record, must not be {@literal null}.
+	 * @param binName name of the bin, must not be {@literal null}.
+	 * @return content of the bin, {@literal null} if the record or the bin does not exist.
+	 */
+	ByteBuffer getBlob(Class<?> type, Serializable id, String binName);
+
 	<T> Iterable<T> aggregate(Filter filter, Class<T> outputType, String module, String function, List<Value> arguments);
 	
 
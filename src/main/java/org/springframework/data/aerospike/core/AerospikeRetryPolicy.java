@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.ResultCode;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often and after which delay a request failing with a transient result code is retried. The delay grows
+ * exponentially up to a maximum and is randomized by a jitter, so that clients contending for the same hot key do not
+ * retry in lockstep.
+ */
+public class AerospikeRetryPolicy {
+
+	/**
+	 * Result codes of requests the server rejected before applying them, retrying them is safe for any operation.
+	 */
+	public static final Set<Integer> REJECTED_RESULT_CODES = Collections.unmodifiableSet(new HashSet<Integer>(
+			Arrays.asList(ResultCode.KEY_BUSY, ResultCode.DEVICE_OVERLOAD, ResultCode.NO_MORE_CONNECTIONS)));
+
+	/**
+	 * Policy without retries.
+	 */
+	public static final AerospikeRetryPolicy NONE = builder().maxAttempts(1).build();
+
+	private final int maxAttempts;
+	private final long initialBackoffMillis;
+	private final long maxBackoffMillis;
+	private final double multiplier;
+	private final double jitter;
+	private final Set<Integer> retryableResultCodes;
+
+	private AerospikeRetryPolicy(Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.initialBackoffMillis = builder.initialBackoffMillis;
+		this.maxBackoffMillis = builder.maxBackoffMillis;
+		this.multiplier = builder.multiplier;
+		this.jitter = builder.jitter;
+		this.retryableResultCodes = Collections.unmodifiableSet(new HashSet<Integer>(builder.retryableResultCodes));
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Set<Integer> getRetryableResultCodes() {
+		return retryableResultCodes;
+	}
+
+	public boolean isRetryable(int resultCode) {
+		return retryableResultCodes.contains(resultCode);
+	}
+
+	/**
+	 * @param attempt number of the failed attempt, starting with {@code 1}.
+	 * @return delay before the next attempt.
+	 */
+	public long getBackoffMillis(int attempt) {
+		double backoff = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(multiplier, attempt - 1));
+		if (jitter > 0) {
+			backoff *= 1 - jitter + ThreadLocalRandom.current().nextDouble() * 2 * jitter;
+		}
+		return Math.round(backoff);
+	}
+
+	public static class Builder {
+
+		private int maxAttempts = 3;
+		private long initialBackoffMillis = 10;
+		private long maxBackoffMillis = 1000;
+		private double multiplier = 2;
+		private double jitter = 0.5;
+		private Set<Integer> retryableResultCodes = new HashSet<Integer>(REJECTED_RESULT_CODES);
+
+		private Builder() {
+			retryableResultCodes.add(ResultCode.TIMEOUT);
+		}
+
+		/**
+		 * Number of attempts including the first one, defaults to {@code 3}.
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			Assert.isTrue(maxAttempts > 0, "Max attempts must be positive!");
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Delay before the first retry, defaults to {@code 10} milliseconds.
+		 */
+		public Builder initialBackoffMillis(long initialBackoffMillis) {
+			Assert.isTrue(initialBackoffMillis >= 0, "Initial backoff must not be negative!");
+			this.initialBackoffMillis = initialBackoffMillis;
+			return this;
+		}
+
+		/**
+		 * Upper bound of the delay between attempts, defaults to {@code 1000} milliseconds.
+		 */
+		public Builder maxBackoffMillis(long maxBackoffMillis) {
+			Assert.isTrue(maxBackoffMillis >= 0, "Max backoff must not be negative!");
+			this.maxBackoffMillis = maxBackoffMillis;
+			return this;
+		}
+
+		/**
+		 * Factor the delay grows by after each attempt, defaults to {@code 2}.
+		 */
+		public Builder multiplier(double multiplier) {
+			Assert.isTrue(multiplier >= 1, "Multiplier must not be less than 1!");
+			this.multiplier = multiplier;
+			return this;
+		}
+
+		/**
+		 * Fraction by which each delay is randomly shortened or prolonged, defaults to {@code 0.5}.
+		 */
+		public Builder jitter(double jitter) {
+			Assert.isTrue(jitter >= 0 && jitter <= 1, "Jitter must be between 0 and 1!");
+			this.jitter = jitter;
+			return this;
+		}
+
+		/**
+		 * Result codes that are retried, defaults to the {@link #REJECTED_RESULT_CODES} and {@link ResultCode#TIMEOUT}.
+		 */
+		public Builder retryOn(Integer... resultCodes) {
+			this.retryableResultCodes = new HashSet<Integer>(Arrays.asList(resultCodes));
+			return this;
+		}
+
+		public AerospikeRetryPolicy build() {
+			return new AerospikeRetryPolicy(this);
+		}
+	}
+}
@@ -17,7 +17,10 @@ package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.*;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.policy.WritePolicy;
@@ -30,9 +33,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.support.PropertyComparator;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.DeleteAllFailureException;
+import org.springframework.data.aerospike.annotation.ReadPolicy;
+import org.springframework.data.aerospike.convert.AerospikeMetaData;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
@@ -41,12 +49,16 @@ import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
 import org.springframework.data.aerospike.repository.query.AerospikeQueryCreator;
+import org.springframework.data.aerospike.repository.query.Criteria;
 import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.utility.BlobUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.util.CloseableIterator;
@@ -56,11 +68,20 @@ import org.springframework.util.comparator.CompoundComparator;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+
+import static org.springframework.data.aerospike.core.AerospikeOperationListener.*;
 
 /**
  * Primary implementation of {@link AerospikeOperations}.
@@ -78,6 +99,21 @@ public class AerospikeTemplate implements AerospikeOperations {
 	private final QueryEngine queryEngine;
 
 	private AerospikeExceptionTranslator exceptionTranslator;
+	private final Map<String, IndexedBins> indexedBins = new ConcurrentHashMap<String, IndexedBins>();
+	private volatile RecordSnapshots snapshots;
+	private volatile BatchPolicy batchPolicy;
+	private volatile int maxBatchSize;
+	private volatile Executor batchExecutor;
+	private volatile boolean partialBatchResults;
+	private volatile boolean identityMapEnabled;
+	private volatile BatchingReader batchingReader;
+	private final Map<String, Policy> readPolicies = new ConcurrentHashMap<String, Policy>();
+	private final Map<String, WritePolicy> writePolicies = new ConcurrentHashMap<String, WritePolicy>();
+	private final Map<List<Object>, Policy> annotatedReadPolicies = new ConcurrentHashMap<List<Object>, Policy>();
+	private final Map<List<Object>, WritePolicy> touchPolicies = new ConcurrentHashMap<List<Object>, WritePolicy>();
+	private final Map<Class<?>, Set<String>> propertyBins = new ConcurrentHashMap<Class<?>, Set<String>>();
+	private volatile OperationRecorder recorder = OperationRecorder.NONE;
+	private final RetryExecutor retryExecutor = new RetryExecutor();
 
 	/**
 	 * Creates a new {@link AerospikeTemplate} for the given
@@ -106,6 +142,156 @@ public class AerospikeTemplate implements AerospikeOperations {
 		loggerSetup();
 	}
 
+	/**
+	 * Enables dirty tracking: the bins of records read by {@link #findById(Serializable, Class)} and
+	 * {@link #findByIds(Collection, Class)} or written by this template are remembered, and subsequent saves and
+	 * updates of the same records send only the changed bins using {@link Operation#put(Bin)} and map/list operations
+	 * for changed collection entries. Bins of persistent properties that are no longer present in the entity, e.g.
+	 * because the property was set to {@literal null}, are deleted; bins not mapped by the entity are kept.
+	 *
+	 * @param capacity maximum number of tracked records, {@code 0} (the default) disables dirty tracking.
+	 */
+	public void setDirtyTrackingCapacity(int capacity) {
+		Assert.isTrue(capacity >= 0, "Capacity must not be negative!");
+		this.snapshots = capacity == 0 ? null : new RecordSnapshots(capacity);
+	}
+
+	/**
+	 * Sets the policy of the batch requests issued by {@link #findByIds(Collection, Class)} and
+	 * {@link #existsAll(Collection, Class)}. Its timeouts apply to each
+	 * sub-batch, its {@code maxConcurrentThreads} to the nodes of a single sub-batch. Defaults to the batch policy of
+	 * the client.
+	 */
+	public void setBatchPolicy(BatchPolicy batchPolicy) {
+		this.batchPolicy = batchPolicy;
+	}
+
+	/**
+	 * Splits the keys of {@link #findByIds(Collection, Class)} and {@link #existsAll(Collection, Class)} into
+	 * sub-batches of at most the given size.
+	 *
+	 * @param maxBatchSize maximum number of keys per batch request, {@code 0} (the default) sends all keys at once.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize >= 0, "Max batch size must not be negative!");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Sets the executor running the sub-batches of {@link #setMaxBatchSize(int) chunked} batch requests and the deletes
+	 * of {@link #deleteAll(Collection, Class)} in parallel. They are sent sequentially by the calling thread if none is
+	 * set, so that deleting many records costs one round trip per record.
+	 */
+	public void setBatchExecutor(Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Whether a failed sub-batch is logged and its records are treated as not found instead of failing the whole
+	 * batch read. Disabled by default.
+	 */
+	public void setPartialBatchResults(boolean partialBatchResults) {
+		this.partialBatchResults = partialBatchResults;
+	}
+
+	/**
+	 * Enables the identity map: while transaction synchronization is active, e.g. within a transaction, entities read
+	 * by {@link #findById(Serializable, Class)} and {@link #findByIds(Collection, Class)} or saved by this template are
+	 * remembered until the transaction completes, and reading them again returns the same instances without a
+	 * request. Modifications of records by other clients are not seen within the transaction. Disabled by default.
+	 */
+	public void setIdentityMapEnabled(boolean identityMapEnabled) {
+		this.identityMapEnabled = identityMapEnabled;
+	}
+
+	/**
+	 * Enables read batching: {@link #findById(Serializable, Class)} calls of concurrent threads are collected for the
+	 * given window and sent as a single batch read, subject to {@link #setMaxBatchSize(int)} and
+	 * {@link #setBatchPolicy(BatchPolicy)}. Each call blocks until its record is read and fails if its batch fails,
+	 * {@link #setPartialBatchResults(boolean) partial batch results} do not apply. Reads of given bins, of touch on read
+	 * entities and reads with a {@link #setReadPolicy(String, Policy) namespace read policy} or a {@link ReadPolicy}
+	 * annotation are not batched, they are sent with their read policy.
+	 *
+	 * @param windowMicros time the first read of a batch waits for others, {@code 0} (the default) disables batching.
+	 * @param maxKeys number of keys sending a batch before the window passes.
+	 */
+	public void setReadBatching(long windowMicros, int maxKeys) {
+		Assert.isTrue(windowMicros >= 0, "Window must not be negative!");
+		Assert.isTrue(maxKeys > 0, "Max keys must be positive!");
+		this.batchingReader = windowMicros == 0 ? null
+				: new BatchingReader(keys -> getRecords(keys, null, false), TimeUnit.MICROSECONDS.toNanos(windowMicros), maxKeys);
+	}
+
+	/**
+	 * Sets the policy of single record reads from the given namespace, e.g. to use shorter timeouts for an in-memory
+	 * namespace than for one stored on SSDs. Defaults to the read policy of the client. {@link ReadPolicy} annotations
+	 * of entities and repository methods are applied on top of it.
+	 */
+	public void setReadPolicy(String namespace, Policy readPolicy) {
+		Assert.notNull(namespace, "Namespace must not be null!");
+		Assert.notNull(readPolicy, "Read policy must not be null!");
+		this.readPolicies.put(namespace, readPolicy);
+		this.annotatedReadPolicies.clear();
+	}
+
+	/**
+	 * Sets the base policy of writes to the given namespace, the template still sets the record exists action,
+	 * generation and expiration of each write. Defaults to the write policy of the client.
+	 */
+	public void setWritePolicy(String namespace, WritePolicy writePolicy) {
+		Assert.notNull(namespace, "Namespace must not be null!");
+		Assert.notNull(writePolicy, "Write policy must not be null!");
+		this.writePolicies.put(namespace, writePolicy);
+		this.touchPolicies.clear();
+	}
+
+	/**
+	 * Sets the listener notified about every request sent by this template, the conversion of its records and the
+	 * sizes of batch reads. Requests are not measured by default.
+	 */
+	public void setOperationListener(AerospikeOperationListener listener) {
+		this.recorder = OperationRecorder.of(listener);
+	}
+
+	/**
+	 * Sets the retry policy of all operation types without a {@link #setRetryPolicy(String, AerospikeRetryPolicy)
+	 * specific} one. Requests are not retried by default.
+	 */
+	public void setRetryPolicy(AerospikeRetryPolicy retryPolicy) {
+		this.retryExecutor.setDefaultPolicy(retryPolicy);
+	}
+
+	/**
+	 * Sets the retry policy of an operation type.
+	 *
+	 * @param operation one of the operation types of {@link AerospikeOperationListener}, e.g.
+	 * {@link AerospikeOperationListener#GET}.
+	 */
+	public void setRetryPolicy(String operation, AerospikeRetryPolicy retryPolicy) {
+		this.retryExecutor.setPolicy(operation, retryPolicy);
+	}
+
+	/**
+	 * Whether writes failing in a way that leaves it unknown if they were applied, e.g. by a timeout, are retried.
+	 * Disabled by default, as retrying operations like increments or appends is not idempotent.
+	 */
+	public void setRetryInDoubtWrites(boolean retryInDoubtWrites) {
+		this.retryExecutor.setRetryInDoubtWrites(retryInDoubtWrites);
+	}
+
+	/**
+	 * Stops sending requests to a namespace for the given duration after the given number of consecutive timeouts,
+	 * device overloads or connection pool exhaustions, requests fail fast with a
+	 * {@link org.springframework.dao.TransientDataAccessResourceException} in the meantime. Failures specific to a key,
+	 * e.g. {@link com.aerospike.client.ResultCode#KEY_BUSY}, are not counted.
+	 *
+	 * @param failureThreshold number of consecutive failures opening the circuit, {@code 0} (the default) disables it.
+	 * @param openDurationMillis time until a trial request is let through.
+	 */
+	public void setCircuitBreaker(int failureThreshold, long openDurationMillis) {
+		this.retryExecutor.setCircuitBreaker(failureThreshold, openDurationMillis);
+	}
+
 	private void loggerSetup() {
 		final Logger log = LoggerFactory.getLogger(AerospikeQueryCreator.class);
 		com.aerospike.client.Log
@@ -137,12 +323,14 @@ public class AerospikeTemplate implements AerospikeOperations {
 	public <T> void createIndex(Class<T> domainType, String indexName,
 								String binName, IndexType indexType) {
 		try {
+			String namespace = getNamespace(domainType);
 			String setName = getSetName(domainType);
-			IndexTask task = client.createIndex(null, this.namespace,
+			IndexTask task = client.createIndex(null, namespace,
 					setName, indexName, binName, indexType);
 			if (task != null) {
 				task.waitTillComplete();
 			}
+			indexedBins.remove(namespace + '/' + setName);
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
@@ -152,11 +340,13 @@ public class AerospikeTemplate implements AerospikeOperations {
 	@Override
 	public <T> void deleteIndex(Class<T> domainType, String indexName) {
 		try {
+			String namespace = getNamespace(domainType);
 			String setName = getSetName(domainType);
-			IndexTask task = client.dropIndex(null, this.namespace, setName, indexName);
+			IndexTask task = client.dropIndex(null, namespace, setName, indexName);
 			if (task != null) {
 				task.waitTillComplete();
 			}
+			indexedBins.remove(namespace + '/' + setName);
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
@@ -184,12 +374,12 @@ public class AerospikeTemplate implements AerospikeOperations {
 	public void save(Object document) {
 		Assert.notNull(document, "Object to insert must not be null!");
 
-		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(document.getClass());
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassUtils.getUserClass(document));
 
 		if (entity.hasVersionProperty()) {
 			doPersistWithCas(document, entity);
 		} else {
-			WritePolicyBuilder builder = WritePolicyBuilder.builder(this.client.writePolicyDefault)
+			WritePolicyBuilder builder = WritePolicyBuilder.builder(getWritePolicy(getNamespace(entity)))
 					.sendKey(true)
 					.recordExistsAction(RecordExistsAction.UPDATE);
 			doPersist(document, builder);
@@ -203,12 +393,12 @@ public class AerospikeTemplate implements AerospikeOperations {
 
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(document, data);
+			writeEntity(document, data);
 
 			Key key = data.getKey();
 			Bin[] bins = data.getBinsAsArray();
 
-			client.put(policy, key, bins);
+			measure(PUT, key, () -> client.put(policy, key, bins));
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
@@ -224,7 +414,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 	public void insert(Object document) {
 		Assert.notNull(document, "Document must not be null!");
 
-		WritePolicyBuilder writePolicyBuilder = WritePolicyBuilder.builder(this.client.writePolicyDefault)
+		WritePolicyBuilder writePolicyBuilder = WritePolicyBuilder.builder(getWritePolicy(getNamespace(ClassUtils.getUserClass(document))))
 				.sendKey(true)
 				.recordExistsAction(RecordExistsAction.CREATE_ONLY);
 
@@ -235,27 +425,90 @@ public class AerospikeTemplate implements AerospikeOperations {
 	public void update(Object document) {
 		Assert.notNull(document, "Document must not be null!");
 
-		WritePolicyBuilder writePolicyBuilder = WritePolicyBuilder.builder(this.client.writePolicyDefault)
+		WritePolicyBuilder writePolicyBuilder = WritePolicyBuilder.builder(getWritePolicy(getNamespace(ClassUtils.getUserClass(document))))
 				.sendKey(true)
 				.recordExistsAction(RecordExistsAction.UPDATE_ONLY);
 
 		doPersist(document, writePolicyBuilder);
 	}
 
+	@Override
+	public void update(Object document, Collection<String> fields) {
+		Assert.notNull(document, "Document must not be null!");
+		Assert.notNull(fields, "Fields must not be null!");
+
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassUtils.getUserClass(document));
+		Set<String> binNames = new LinkedHashSet<String>();
+		for (String field : fields) {
+			AerospikePersistentProperty property = entity.getPersistentProperty(field);
+			Assert.notNull(property, "Unknown property " + field + " of " + entity.getType());
+			if (!property.isIdProperty() && !property.isVersionProperty() && !property.isExpirationProperty()) {
+				binNames.add(property.getFieldName());
+			}
+		}
+
+		try {
+			AerospikeWriteData data = AerospikeWriteData.forWrite();
+			writeEntity(document, data);
+
+			Map<String, Bin> writtenBins = new HashMap<String, Bin>();
+			for (Bin bin : data.getBins()) {
+				writtenBins.put(bin.name, bin);
+			}
+			Operation[] operations = new Operation[binNames.size() + 1];
+			int i = 0;
+			for (String binName : binNames) {
+				Bin bin = writtenBins.get(binName);
+				operations[i++] = Operation.put(bin != null ? bin : Bin.asNull(binName));
+			}
+			operations[i] = Operation.getHeader();
+
+			WritePolicyBuilder builder = WritePolicyBuilder.builder(getWritePolicy(getNamespace(entity)))
+					.sendKey(true)
+					.recordExistsAction(RecordExistsAction.UPDATE_ONLY)
+					.expiration(data.getExpiration());
+			ConvertingPropertyAccessor accessor = null;
+			if (entity.hasVersionProperty()) {
+				accessor = getPropertyAccessor(entity, document);
+				Integer version = accessor.getProperty(entity.getVersionProperty(), Integer.class);
+				if (version != null && version > 0) {
+					builder.generationPolicy(GenerationPolicy.EXPECT_GEN_EQUAL).generation(version);
+				}
+			}
+
+			Key key = data.getKey();
+			WritePolicy policy = builder.build();
+			Record newRecord = measure(OPERATE, key, () -> client.operate(policy, key, operations));
+			if (accessor != null) {
+				accessor.setProperty(entity.getVersionProperty(), newRecord.generation);
+			}
+			updateSnapshot(key, binNames, writtenBins, newRecord.generation);
+			forgetEntity(key);
+		} catch (AerospikeException e) {
+			if (e.getResultCode() == ResultCode.GENERATION_ERROR) {
+				throw new OptimisticLockingFailureException("Update document with version value failed", e);
+			}
+
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+			throw translatedException == null ? e : translatedException;
+		}
+	}
+
 	@Override
 	public void delete(Class<?> type) {
+		String namespace = getNamespace(type);
 		try {
 			ScanPolicy scanPolicy = new ScanPolicy();
 			scanPolicy.includeBinData = false;
 			final AtomicLong count = new AtomicLong();
-			client.scanAll(scanPolicy, namespace, type.getSimpleName(),
+			measure(SCAN, namespace, type.getSimpleName(), () -> client.scanAll(scanPolicy, namespace, type.getSimpleName(),
 					new ScanCallback() {
 
 						@Override
 						public void scanCallback(Key key, Record record)
 								throws AerospikeException {
 
-							if (client.delete(null, key))
+							if (client.delete(getWritePolicy(key.namespace), key))
 								count.addAndGet(1);
 							/*
 							 * after 10,000 records delete, return print the
@@ -266,7 +519,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 							}
 
 						}
-					}, new String[] {});
+					}, new String[] {}));
 			log.debug("Deleted {} records from set {}", count, type.getSimpleName());
 		}
 		catch (AerospikeException o_O) {
@@ -274,6 +527,10 @@ public class AerospikeTemplate implements AerospikeOperations {
 					.translateExceptionIfPossible(o_O);
 			throw translatedException == null ? o_O : translatedException;
 		}
+		finally {
+			// a failed scan may have deleted some of the records
+			forgetAll(namespace, type.getSimpleName());
+		}
 	}
 
 	@Override
@@ -284,7 +541,8 @@ public class AerospikeTemplate implements AerospikeOperations {
 			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
 			Key key = getKey(id, entity);
 
-			return this.client.delete(null, key);
+			forget(key);
+			return measure(DELETE, key, () -> this.client.delete(getWritePolicy(key.namespace), key));
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
@@ -296,9 +554,11 @@ public class AerospikeTemplate implements AerospikeOperations {
 		Assert.notNull(objectToDelete, "Object to delete must not be null!");
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToDelete, data);
+			converter.writeKey(objectToDelete, data);
 
-			return this.client.delete(null, data.getKey());
+			Key key = data.getKey();
+			forget(key);
+			return measure(DELETE, key, () -> this.client.delete(getWritePolicy(key.namespace), key));
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
@@ -313,7 +573,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
 			Key key = getKey(id, entity);
 
-			Record record = this.client.operate(null, key, Operation.getHeader());
+			Record record = measure(EXISTS, key, () -> this.client.operate(getWritePolicy(key.namespace), key, Operation.getHeader()));
 			return record != null;
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
@@ -321,6 +581,117 @@ public class AerospikeTemplate implements AerospikeOperations {
 		}
 	}
 
+	@Override
+	public <ID> Map<ID, Boolean> existsAll(Collection<ID> ids, Class<?> type) {
+		Assert.notNull(ids, "List of ids must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		try {
+			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+			List<ID> idList = new ArrayList<ID>(ids);
+			Key[] keys = idList.stream()
+					.map(id -> getKey(id, entity))
+					.toArray(Key[]::new);
+
+			boolean[] exists = getExists(keys);
+			Map<ID, Boolean> result = new LinkedHashMap<ID, Boolean>(idList.size() * 2);
+			int found = 0;
+			for (int i = 0; i < keys.length; i++) {
+				result.put(idList.get(i), exists[i]);
+				if (exists[i]) {
+					found++;
+				}
+			}
+			recorder.batch(BATCH_EXISTS, entity.getSetName(), keys.length, found);
+			return result;
+		} catch (AerospikeException e) {
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+			throw translatedException == null ? e : translatedException;
+		}
+	}
+
+	@Override
+	public <ID> Map<ID, Boolean> deleteAll(Collection<ID> ids, Class<?> type) {
+		Assert.notNull(ids, "List of ids must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+		List<ID> idList = new ArrayList<ID>(ids);
+		List<Key> keys = new ArrayList<Key>(idList.size());
+		for (ID id : idList) {
+			Assert.notNull(id, "Id must not be null!");
+			keys.add(getKey(id, entity));
+		}
+		return deleteKeys(idList, keys);
+	}
+
+	@Override
+	public Map<Object, Boolean> deleteAll(Iterable<?> documents) {
+		Assert.notNull(documents, "Documents must not be null!");
+
+		List<Object> ids = new ArrayList<Object>();
+		List<Key> keys = new ArrayList<Key>();
+		for (Object document : documents) {
+			Assert.notNull(document, "Object to delete must not be null!");
+			AerospikeWriteData data = AerospikeWriteData.forWrite();
+			converter.writeKey(document, data);
+
+			Key key = data.getKey();
+			ids.add(key.userKey.getObject());
+			keys.add(key);
+		}
+		return deleteKeys(ids, keys);
+	}
+
+	/**
+	 * Deletes the records with the given keys, concurrently if a {@link #setBatchExecutor(Executor) batch executor} is
+	 * set. A failing delete does not abort the others, the failures are reported together once all deletes completed.
+	 */
+	private <ID> Map<ID, Boolean> deleteKeys(List<ID> ids, List<Key> keys) {
+		boolean[] deleted = new boolean[keys.size()];
+		RuntimeException[] failures = new RuntimeException[keys.size()];
+		List<Runnable> deletes = new ArrayList<Runnable>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			Key key = keys.get(i);
+			int index = i;
+
+			forget(key);
+			deletes.add(() -> {
+				try {
+					deleted[index] = measure(DELETE, key, () -> this.client.delete(getWritePolicy(key.namespace), key));
+				} catch (AerospikeException e) {
+					DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+					failures[index] = translatedException == null ? e : translatedException;
+				} catch (RuntimeException e) {
+					failures[index] = e;
+				}
+			});
+		}
+		runConcurrently(deletes);
+
+		Map<ID, Boolean> result = new LinkedHashMap<ID, Boolean>(ids.size() * 2);
+		Map<Object, RuntimeException> failed = new LinkedHashMap<Object, RuntimeException>();
+		for (int i = 0; i < ids.size(); i++) {
+			if (failures[i] == null) {
+				result.put(ids.get(i), deleted[i]);
+			} else {
+				failed.put(ids.get(i), failures[i]);
+			}
+		}
+		if (!failed.isEmpty()) {
+			throw new DeleteAllFailureException(new LinkedHashMap<Object, Boolean>(result), failed);
+		}
+		return result;
+	}
+
 	@Override
 	public <T> List<T> findAll(final Class<T> type) {
 
@@ -343,21 +714,54 @@ public class AerospikeTemplate implements AerospikeOperations {
 
 	@Override
 	public <T> T findById(Serializable id, Class<T> type) {
+		return doFindById(id, type, null);
+	}
+
+	@Override
+	public <T> T findById(Serializable id, Class<T> type, Collection<String> binNames) {
+		Assert.notNull(binNames, "Bin names must not be null!");
+		return doFindById(id, type, getBinNamesToRead(type, binNames, null));
+	}
+
+	private <T> T doFindById(Serializable id, Class<T> type, String[] binNames) {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(type, "Type must not be null!");
 		try {
 			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
 			Key key = getKey(id, entity);
 
+			// touch on read entities are read every time to keep extending their expiration
+			IdentityMap identityMap = binNames == null && !entity.isTouchOnRead() ? getIdentityMap() : null;
+			T known = identityMap == null ? null : identityMap.get(key, type);
+			if (known != null) {
+				return known;
+			}
+
+			BatchingReader batchingReader = this.batchingReader;
 			Record record;
 			if (entity.isTouchOnRead()) {
 				Assert.state(!entity.hasExpirationProperty(), "Touch on read is not supported for expiration property");
-				record = getAndTouch(key, entity.getExpiration());
+				record = getAndTouch(entity, key, binNames);
 			} else {
-				record = this.client.get(null, key);
+				Policy readPolicy = getReadPolicy(entity);
+				if (binNames != null) {
+					record = measure(GET, key, () -> this.client.get(readPolicy, key, binNames));
+				} else if (batchingReader != null && readPolicy == this.client.readPolicyDefault) {
+					// batches are sent with the batch policy, reads with a policy of their own are sent alone
+					record = batchingReader.get(key);
+				} else {
+					record = measure(GET, key, () -> this.client.get(readPolicy, key));
+				}
+			}
+			if (binNames == null) {
+				takeSnapshot(key, record);
 			}
 
-			return mapToEntity(key, type, record);
+			T result = mapToEntity(key, type, record);
+			if (identityMap != null && result != null) {
+				identityMap.put(key, result);
+			}
+			return result;
 		}
 		catch (AerospikeException e) {
 			//touch operation returns error if key not found
@@ -370,15 +774,74 @@ public class AerospikeTemplate implements AerospikeOperations {
 		}
 	}
 
-	private Record getAndTouch(Key key, int expiration) {
-		WritePolicy writePolicy = new WritePolicy(client.writePolicyDefault);
-		writePolicy.expiration = expiration;
+	/**
+	 * Reads the record with a touch operation, which is sent with the write policy of the namespace. The timeouts,
+	 * retries and replica of the {@link ReadPolicy} annotations of the entity and the repository method still apply.
+	 */
+	private Record getAndTouch(AerospikePersistentEntity<?> entity, Key key, String[] binNames) {
+		WritePolicy writePolicy = getTouchPolicy(entity);
+
+		if (binNames == null) {
+			return measure(OPERATE, key, () -> this.client.operate(writePolicy, key, Operation.touch(), Operation.get()));
+		}
+		Operation[] operations = new Operation[binNames.length + 1];
+		operations[0] = Operation.touch();
+		for (int i = 0; i < binNames.length; i++) {
+			operations[i + 1] = Operation.get(binNames[i]);
+		}
+		return measure(OPERATE, key, () -> this.client.operate(writePolicy, key, operations));
+	}
+
+	/**
+	 * Adds the metadata bins needed to map a record back to an entity, the bins needed to instantiate the entity and,
+	 * as results are sorted on the client, the bins to sort it by to the given bin names.
+	 */
+	private String[] getBinNamesToRead(Class<?> type, Collection<String> binNames, Sort sort) {
+		Set<String> binsToRead = new LinkedHashSet<String>(binNames);
+		binsToRead.add(AerospikeMetaData.USER_KEY);
+		String typeKey = converter.getAerospikeTypeAliasAccessor().getTypeKey();
+		if (typeKey != null) {
+			binsToRead.add(typeKey);
+		}
+
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+		PreferredConstructor<?, AerospikePersistentProperty> constructor = entity.getPersistenceConstructor();
+		if (constructor != null) {
+			entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+				if (constructor.isConstructorParameter(property) && isStoredInBin(property)) {
+					binsToRead.add(property.getFieldName());
+				}
+			});
+		}
+		if (sort != null) {
+			for (Order order : sort) {
+				String path = order.getProperty();
+				int separator = path.indexOf('.');
+				AerospikePersistentProperty property = entity.getPersistentProperty(separator < 0 ? path : path.substring(0, separator));
+				if (property != null && isStoredInBin(property)) {
+					binsToRead.add(property.getFieldName());
+				}
+			}
+		}
+		return binsToRead.toArray(new String[binsToRead.size()]);
+	}
 
-		return this.client.operate(writePolicy, key, Operation.touch(), Operation.get());
+	private static boolean isStoredInBin(AerospikePersistentProperty property) {
+		return !property.isIdProperty() && !property.isVersionProperty() && !property.isExpirationProperty();
 	}
 
 	@Override
 	public <T> List<T> findByIds(Collection<?> ids, Class<T> type) {
+		return doFindByIds(ids, type, null);
+	}
+
+	@Override
+	public <T> List<T> findByIds(Collection<?> ids, Class<T> type, Collection<String> binNames) {
+		Assert.notNull(binNames, "Bin names must not be null!");
+		return doFindByIds(ids, type, getBinNamesToRead(type, binNames, null));
+	}
+
+	private <T> List<T> doFindByIds(Collection<?> ids, Class<T> type, String[] binNames) {
 		Assert.notNull(ids, "List of ids must not be null!");
 		Assert.notNull(type, "Type must not be null!");
 
@@ -390,13 +853,41 @@ public class AerospikeTemplate implements AerospikeOperations {
 			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
 			Key[] keys = ids.stream()
 					.map(id -> getKey(id, entity))
+					.distinct()
 					.toArray(Key[]::new);
 
-			Record[] records = client.get(null, keys);
+			IdentityMap identityMap = binNames == null && !entity.isTouchOnRead() ? getIdentityMap() : null;
+			Key[] keysToRead = identityMap == null ? keys : Arrays.stream(keys)
+					.filter(key -> identityMap.get(key, type) == null)
+					.toArray(Key[]::new);
+			if (keysToRead.length == 0) {
+				return Arrays.stream(keys)
+						.map(key -> identityMap.get(key, type))
+						.collect(Collectors.toList());
+			}
+
+			Record[] records = getRecords(keysToRead, binNames, partialBatchResults);
+			recorder.batch(BATCH_GET, entity.getSetName(), keysToRead.length,
+					(int) Arrays.stream(records).filter(Objects::nonNull).count());
+			if (binNames == null) {
+				for (int i = 0; i < keysToRead.length; i++) {
+					takeSnapshot(keysToRead[i], records[i]);
+				}
+			}
 
-			return IntStream.range(0, keys.length)
-					.filter(index -> records[index] != null)
-					.mapToObj(index -> mapToEntity(keys[index], type, records[index]))
+			Map<Key, T> entities = new HashMap<Key, T>(keysToRead.length * 2);
+			for (int i = 0; i < keysToRead.length; i++) {
+				T result = mapToEntity(keysToRead[i], type, records[i]);
+				if (result != null) {
+					entities.put(keysToRead[i], result);
+					if (identityMap != null) {
+						identityMap.put(keysToRead[i], result);
+					}
+				}
+			}
+			return Arrays.stream(keys)
+					.map(key -> identityMap == null ? entities.get(key) : identityMap.get(key, type))
+					.filter(Objects::nonNull)
 					.collect(Collectors.toList());
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
@@ -404,6 +895,84 @@ public class AerospikeTemplate implements AerospikeOperations {
 		}
 	}
 
+	private Record[] getRecords(Key[] keys, String[] binNames, boolean partialResults) {
+		Record[] records = new Record[keys.length];
+		forEachBatch(keys, (batchKeys, offset) -> {
+			Record[] batchRecords = getBatch(batchKeys, binNames, partialResults);
+			System.arraycopy(batchRecords, 0, records, offset, batchRecords.length);
+		});
+		return records;
+	}
+
+	private boolean[] getExists(Key[] keys) {
+		BatchPolicy policy = this.batchPolicy;
+		boolean[] exists = new boolean[keys.length];
+		forEachBatch(keys, (batchKeys, offset) -> {
+			boolean[] batchExists = measure(BATCH_EXISTS, batchKeys[0], () -> client.exists(policy, batchKeys));
+			System.arraycopy(batchExists, 0, exists, offset, batchExists.length);
+		});
+		return exists;
+	}
+
+	/**
+	 * Splits the given keys into sub-batches of at most the {@link #setMaxBatchSize(int) max batch size} and passes
+	 * each of them with its offset in the given keys to the given request, concurrently if possible.
+	 */
+	private void forEachBatch(Key[] keys, BiConsumer<Key[], Integer> request) {
+		int maxBatchSize = this.maxBatchSize;
+		if (maxBatchSize == 0 || keys.length <= maxBatchSize) {
+			request.accept(keys, 0);
+			return;
+		}
+
+		List<Runnable> batches = new ArrayList<Runnable>();
+		for (int from = 0; from < keys.length; from += maxBatchSize) {
+			int offset = from;
+			Key[] batchKeys = Arrays.copyOfRange(keys, from, Math.min(from + maxBatchSize, keys.length));
+			batches.add(() -> request.accept(batchKeys, offset));
+		}
+		runConcurrently(batches);
+	}
+
+	/**
+	 * Runs the given tasks on the {@link #setBatchExecutor(Executor) batch executor} and waits for all of them, or runs
+	 * them sequentially if none is set. The first failure is rethrown.
+	 */
+	private void runConcurrently(List<Runnable> tasks) {
+		Executor executor = this.batchExecutor;
+		if (executor == null || tasks.size() == 1) {
+			tasks.forEach(Runnable::run);
+			return;
+		}
+
+		CompletableFuture<?>[] futures = tasks.stream()
+				.map(task -> CompletableFuture.runAsync(task, executor))
+				.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(futures).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private Record[] getBatch(Key[] keys, String[] binNames, boolean partialResults) {
+		BatchPolicy policy = this.batchPolicy;
+		try {
+			return measure(BATCH_GET, keys[0], () -> binNames == null
+					? client.get(policy, keys)
+					: client.get(policy, keys, binNames));
+		} catch (AerospikeException e) {
+			if (!partialResults) {
+				throw e;
+			}
+			log.warn("Failed to read batch of {} keys, treating them as not found", keys.length, e);
+			return new Record[keys.length];
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Iterable<T> aggregate(Filter filter, Class<T> outputType,
@@ -417,13 +986,15 @@ public class AerospikeTemplate implements AerospikeOperations {
 		if (filter != null)
 			statement.setFilters(filter);
 		statement.setSetName(entity.getSetName());
-		statement.setNamespace(this.namespace);
+		String namespace = getNamespace(entity);
+		statement.setNamespace(namespace);
 		ResultSet resultSet = null;
+		// the results are streamed, only the start of the query would be measured
 		if (arguments != null && arguments.size() > 0)
-			resultSet = this.client.queryAggregate(null, statement, module,
-					function, arguments.toArray(new Value[0]));
+			resultSet = retryExecutor.execute(QUERY, namespace, () -> this.client.queryAggregate(null,
+					statement, module, function, arguments.toArray(new Value[0])));
 		else
-			resultSet = this.client.queryAggregate(null, statement);
+			resultSet = retryExecutor.execute(QUERY, namespace, () -> this.client.queryAggregate(null, statement));
 		return (Iterable<T>) resultSet;
 	}
 
@@ -500,27 +1071,57 @@ public class AerospikeTemplate implements AerospikeOperations {
 	 * org.springframework.data.aerospike.core.AerospikeOperations#find(org.
 	 * springframework.data.aerospike.repository.query.Query, java.lang.Class)
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public <T> Iterable<T> find(Query<?> query, Class<T> type) {
+		return doFind(query, type, null);
+	}
+
+	@Override
+	public <T> Iterable<T> find(Query<?> query, Class<T> type, Collection<String> binNames) {
+		Assert.notNull(binNames, "Bin names must not be null!");
+		Assert.notNull(query, "Query must not be null!");
+		return doFind(query, type, getBinNamesToRead(type, binNames, query.getSort()));
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private <T> Iterable<T> doFind(Query<?> query, Class<T> type, String[] binNames) {
 		Assert.notNull(query, "Query must not be null!");
 		Assert.notNull(type, "Type must not be null!");
-		List<Qualifier> qualifiers = null;
-		Filter secondaryFilter = null;
-		qualifiers = query.getQueryObject();
-		if (qualifiers != null && qualifiers.size() > 0) {
-			secondaryFilter = qualifiers.get(0).asFilter();
-			if (secondaryFilter != null) {
-				qualifiers.remove(0);
+		OperationRecorder recorder = this.recorder;
+		long start = System.nanoTime();
+		String plan = null;
+		final Iterable<T> results;
+		Object criteria = query.getCritieria();
+		if (criteria instanceof Criteria && ((Criteria) criteria).isOrOperator()) {
+			if (recorder.isEnabled()) {
+				plan = "disjunction " + ((Criteria) criteria).getCriteriaObject();
+			}
+			results = findAllUsingDisjunction(type, (Criteria) criteria, binNames);
+		} else {
+			List<Qualifier> qualifiers = null;
+			Filter secondaryFilter = null;
+			String indexedBin = null;
+			qualifiers = query.getQueryObject();
+			if (qualifiers != null && qualifiers.size() > 0) {
+				secondaryFilter = qualifiers.get(0).asFilter();
+				if (secondaryFilter != null) {
+					indexedBin = qualifiers.remove(0).getField();
+				}
+			}
+			if (recorder.isEnabled()) {
+				plan = (indexedBin != null ? "index on " + indexedBin : "scan") + " with qualifiers " + qualifiers;
 			}
-		}
 
-		final Iterable<T> results = findAllUsingQuery(type, secondaryFilter, qualifiers.toArray(new Qualifier[qualifiers.size()]));
+			results = findAllUsingQuery(type, binNames, secondaryFilter, qualifiers.toArray(new Qualifier[qualifiers.size()]));
+		}
 		List<?> returnedList = IterableConverter.toList(results);
 		if(results!=null && query.getSort()!=null){
 			Comparator comparator = aerospikePropertyComparator(query);
 			Collections.sort(returnedList, comparator);
 		}
+		if (recorder.isEnabled()) {
+			recorder.query(getNamespace(type), getSetName(type), plan, returnedList.size(), System.nanoTime() - start);
+		}
 		return (Iterable<T>) returnedList;
 	}
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -651,7 +1252,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 		int n_objects = 0;
 		for (Node node : nodes) {
 			String infoString = Info.request(node,
-					"sets/" + this.namespace + "/" + setName);
+					"sets/" + getNamespace(type) + "/" + setName);
 			String n_objectsString = infoString.substring(
 					infoString.indexOf("=") + 1, infoString.indexOf(":"));
 			n_objects = Integer.parseInt(n_objectsString);
@@ -661,52 +1262,304 @@ public class AerospikeTemplate implements AerospikeOperations {
 	}
 
 	protected <T> Iterable<T> findAllUsingQuery(Class<T> type, Filter filter, Qualifier... qualifiers) {
+		return findAllUsingQuery(type, null, filter, qualifiers);
+	}
+
+	protected <T> Iterable<T> findAllUsingQuery(Class<T> type, String[] binNames, Filter filter, Qualifier... qualifiers) {
 		final Class<T> classType = type;
-		Statement stmt = new Statement();
-		stmt.setNamespace(this.namespace);
-		stmt.setSetName(this.getSetName(type));
 		Iterable<T> results = null;
 
-		final KeyRecordIterator recIterator = this.queryEngine.select(
-				this.namespace, this.getSetName(type), filter, qualifiers);
+		String namespace = getNamespace(type);
+		String setName = this.getSetName(type);
+		QueryMeasurement measurement = new QueryMeasurement(this.recorder, namespace, setName, System.nanoTime());
+		final KeyRecordIterator recIterator;
+		try {
+			recIterator = select(namespace, setName, binNames, filter, qualifiers);
+		} catch (AerospikeException e) {
+			measurement.done(e.getResultCode());
+			throw e;
+		}
 
 		results = new Iterable<T>() {
 
 			@Override
 			public Iterator<T> iterator() {
-				return new EntityIterator<T>(classType, converter, recIterator);
+				return new EntityIterator<T>(classType, converter, recIterator, measurement);
 			}
 
 		};
 		return results;
 	}
 
+	/**
+	 * Executes a disjunctive query. If the leading criteria of every disjunct can be served by a secondary index of a
+	 * matching type, one index query per disjunct is started (the queries run concurrently) and the results are merged
+	 * and deduplicated by record digest. Otherwise, or if an index turns out to be missing, the whole disjunction is
+	 * pushed to the server as a single predicate.
+	 */
+	protected <T> Iterable<T> findAllUsingDisjunction(Class<T> type, Criteria criteria, String[] binNames) {
+		String namespace = getNamespace(type);
+		String setName = getSetName(type);
+		List<Filter> filters = new ArrayList<Filter>();
+		List<Qualifier[]> branchQualifiers = new ArrayList<Qualifier[]>();
+
+		for (Criteria disjunct : criteria.getOrCriteria()) {
+			List<Qualifier> qualifiers = new ArrayList<Qualifier>(disjunct.getCriteriaObject());
+			Qualifier leading = qualifiers.get(0);
+			Filter filter = leading.asFilter();
+			if (filter == null || !isIndexedBin(namespace, setName, leading)) {
+				return findAllUsingPredicate(type, criteria, binNames);
+			}
+			qualifiers.remove(0);
+			filters.add(filter);
+			branchQualifiers.add(qualifiers.toArray(new Qualifier[qualifiers.size()]));
+		}
+
+		List<KeyRecordIterator> iterators = new ArrayList<KeyRecordIterator>(filters.size());
+		QueryMeasurement measurement = new QueryMeasurement(this.recorder, namespace, setName, System.nanoTime());
+		try {
+			for (int i = 0; i < filters.size(); i++) {
+				iterators.add(select(namespace, setName, binNames, filters.get(i), branchQualifiers.get(i)));
+			}
+
+			Set<Key> seen = new HashSet<Key>();
+			List<T> results = new ArrayList<T>();
+			for (KeyRecordIterator iterator : iterators) {
+				while (iterator.hasNext()) {
+					KeyRecord keyRecord = iterator.next();
+					if (seen.add(keyRecord.key)) {
+						results.add(mapToEntity(keyRecord.key, type, keyRecord.record));
+					}
+				}
+			}
+			measurement.done(ResultCode.OK);
+			return results;
+		} catch (AerospikeException e) {
+			measurement.done(e.getResultCode());
+			if (e.getResultCode() != ResultCode.INDEX_NOTFOUND) {
+				DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+				throw translatedException == null ? e : translatedException;
+			}
+			// the index was dropped since the indexed bins were loaded
+			log.debug("Index of set {} not found, querying {} by predicate", setName, criteria, e);
+			indexedBins.remove(namespace + '/' + setName);
+		} finally {
+			for (KeyRecordIterator iterator : iterators) {
+				try {
+					iterator.close();
+				} catch (IOException e) {
+					log.warn("Failed to close query iterator", e);
+				}
+			}
+		}
+		return findAllUsingPredicate(type, criteria, binNames);
+	}
+
+	private <T> Iterable<T> findAllUsingPredicate(Class<T> type, Criteria criteria, String[] binNames) {
+		List<Qualifier> disjunction = criteria.getCriteriaObject();
+		return findAllUsingQuery(type, binNames, null, disjunction.toArray(new Qualifier[disjunction.size()]));
+	}
+
+	private boolean isIndexedBin(String namespace, String setName, Qualifier qualifier) {
+		IndexType indexType = getIndexType(qualifier.getValue1());
+		if (indexType == null) {
+			return false;
+		}
+		String cacheKey = namespace + '/' + setName;
+		IndexedBins bins = indexedBins.get(cacheKey);
+		if (bins == null || bins.isExpired()) {
+			bins = loadIndexedBins(namespace, setName);
+			indexedBins.put(cacheKey, bins);
+		}
+		return bins.isIndexed(qualifier.getField(), indexType);
+	}
+
+	/**
+	 * @return the type of the index able to serve a filter on the given value, {@literal null} if there is none.
+	 */
+	private static IndexType getIndexType(Value value) {
+		if (value == null) {
+			return null;
+		}
+		switch (value.getType()) {
+			case ParticleType.INTEGER:
+				return IndexType.NUMERIC;
+			case ParticleType.STRING:
+				return IndexType.STRING;
+			case ParticleType.GEOJSON:
+				return IndexType.GEO2DSPHERE;
+			default:
+				return null;
+		}
+	}
+
+	private IndexedBins loadIndexedBins(String namespace, String setName) {
+		Node[] nodes = client.getNodes();
+		if (nodes.length == 0) {
+			throw new AerospikeException.InvalidNode();
+		}
+		// ns=test:set=Person:indexname=age_index:num_bins=1:bins=age:type=NUMERIC:indextype=NONE:...;...
+		String response = Info.request(nodes[0], "sindex/" + namespace);
+		Map<String, Set<IndexType>> bins = new HashMap<String, Set<IndexType>>();
+		for (String index : response.split(";")) {
+			Map<String, String> properties = new HashMap<String, String>();
+			for (String property : index.split(":")) {
+				int separator = property.indexOf('=');
+				if (separator > 0) {
+					properties.put(property.substring(0, separator), property.substring(separator + 1));
+				}
+			}
+			String bin = properties.containsKey("bins") ? properties.get("bins") : properties.get("bin");
+			String collectionType = properties.get("indextype");
+			IndexType indexType = parseIndexType(properties.get("type"));
+			// indexes on list or map entries cannot serve filters on the bin itself
+			if (bin != null && indexType != null && setName.equals(properties.get("set"))
+					&& (collectionType == null || "NONE".equals(collectionType) || "DEFAULT".equals(collectionType))) {
+				bins.computeIfAbsent(bin, key -> EnumSet.noneOf(IndexType.class)).add(indexType);
+			}
+		}
+		return new IndexedBins(bins, System.nanoTime());
+	}
+
+	private static IndexType parseIndexType(String type) {
+		if (type == null) {
+			return null;
+		}
+		try {
+			return IndexType.valueOf(type.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Bins can only be narrowed when no qualifiers are evaluated on the server, as the qualifiers need the bins they
+	 * refer to. The latency of the query is measured by the caller while iterating its results, see
+	 * {@link QueryMeasurement}.
+	 */
+	private KeyRecordIterator select(String namespace, String setName, String[] binNames, Filter filter,
+									 Qualifier... qualifiers) {
+		if (binNames == null || (qualifiers != null && qualifiers.length > 0)) {
+			return retryExecutor.execute(QUERY, namespace,
+					() -> this.queryEngine.select(namespace, setName, filter, qualifiers));
+		}
+		Statement stmt = new Statement();
+		stmt.setNamespace(namespace);
+		stmt.setSetName(setName);
+		stmt.setBinNames(binNames);
+		if (filter != null) {
+			stmt.setFilters(filter);
+		}
+		return retryExecutor.execute(QUERY, namespace, () -> this.queryEngine.select(stmt));
+	}
+
+	/**
+	 * The secondary indexes of a set by bin, as read by the query planner of disjunctions. Reloaded once expired, so
+	 * that indexes created or dropped outside of this template are eventually noticed.
+	 */
+	private static class IndexedBins {
+
+		private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+		private final Map<String, Set<IndexType>> indexTypes;
+		private final long loadedAt;
+
+		IndexedBins(Map<String, Set<IndexType>> indexTypes, long loadedAt) {
+			this.indexTypes = indexTypes;
+			this.loadedAt = loadedAt;
+		}
+
+		boolean isExpired() {
+			return System.nanoTime() - loadedAt > TTL_NANOS;
+		}
+
+		boolean isIndexed(String binName, IndexType indexType) {
+			Set<IndexType> types = indexTypes.get(binName);
+			return types != null && types.contains(indexType);
+		}
+	}
+
+	/**
+	 * Reports the {@link AerospikeOperationListener#QUERY QUERY} latency from the start of a query until its results
+	 * are exhausted, it fails or it is closed, whichever happens first.
+	 */
+	private static class QueryMeasurement {
+
+		private final OperationRecorder recorder;
+		private final String namespace;
+		private final String setName;
+		private final long start;
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		QueryMeasurement(OperationRecorder recorder, String namespace, String setName, long start) {
+			this.recorder = recorder;
+			this.namespace = namespace;
+			this.setName = setName;
+			this.start = start;
+		}
+
+		void done(int resultCode) {
+			if (recorder.isEnabled() && done.compareAndSet(false, true)) {
+				recorder.operation(QUERY, namespace, setName, resultCode, System.nanoTime() - start);
+			}
+		}
+	}
+
 	public class EntityIterator<T> implements CloseableIterator<T> {
 		private KeyRecordIterator keyRecordIterator;
 		private MappingAerospikeConverter converter;
 		private Class<T> type;
+		private QueryMeasurement measurement;
 
 		public EntityIterator(Class<T> type,
 				MappingAerospikeConverter converter,
 				KeyRecordIterator keyRecordIterator) {
+			this(type, converter, keyRecordIterator, null);
+		}
+
+		private EntityIterator(Class<T> type, MappingAerospikeConverter converter,
+							   KeyRecordIterator keyRecordIterator, QueryMeasurement measurement) {
 			this.converter = converter;
 			this.type = type;
 			this.keyRecordIterator = keyRecordIterator;
+			this.measurement = measurement;
 		}
 
 		@Override
 		public boolean hasNext() {
-			return this.keyRecordIterator.hasNext();
+			try {
+				boolean hasNext = this.keyRecordIterator.hasNext();
+				if (!hasNext) {
+					done(ResultCode.OK);
+				}
+				return hasNext;
+			} catch (AerospikeException e) {
+				done(e.getResultCode());
+				throw e;
+			}
 		}
 
 		@Override
 		public T next() {
-			KeyRecord keyRecord = this.keyRecordIterator.next();
+			KeyRecord keyRecord;
+			try {
+				keyRecord = this.keyRecordIterator.next();
+			} catch (AerospikeException e) {
+				done(e.getResultCode());
+				throw e;
+			}
 			return mapToEntity(keyRecord.key, type, keyRecord.record);
 		}
 
+		private void done(int resultCode) {
+			if (measurement != null) {
+				measurement.done(resultCode);
+			}
+		}
+
 		@Override
 		public void close() {
+			done(ResultCode.OK);
 			try {
 				keyRecordIterator.close();
 			}
@@ -730,12 +1583,14 @@ public class AerospikeTemplate implements AerospikeOperations {
 		try {
 
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToPrependTo, data);
-			Record record = this.client.operate(null, data.getKey(),
+			converter.writeKey(objectToPrependTo, data);
+			Key key = data.getKey();
+			forget(key);
+			Record record = measure(OPERATE, key, () -> this.client.operate(getWritePolicy(key.namespace), key,
 					Operation.prepend(new Bin(fieldName, value)),
-					Operation.get(fieldName));
+					Operation.get(fieldName)));
 
-			return mapToEntity(data.getKey(), (Class<T>) objectToPrependTo.getClass(), record);
+			return mapToEntity(data.getKey(), (Class<T>) ClassUtils.getUserClass(objectToPrependTo), record);
 		}
 		catch (AerospikeException o_O) {
 			DataAccessException translatedException = exceptionTranslator
@@ -751,7 +1606,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 				"Object to prepend to must not be null!");
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToPrependTo, data);
+			converter.writeKey(objectToPrependTo, data);
 			Operation[] ops = new Operation[values.size() + 1];
 			int x = 0;
 			for (Map.Entry<String, String> entry : values.entrySet()) {
@@ -760,9 +1615,11 @@ public class AerospikeTemplate implements AerospikeOperations {
 				x++;
 			}
 			ops[x] = Operation.get();
-			Record record = this.client.operate(null, data.getKey(), ops);
+			Key key = data.getKey();
+			forget(key);
+			Record record = measure(OPERATE, key, () -> this.client.operate(getWritePolicy(key.namespace), key, ops));
 
-			return mapToEntity(data.getKey(), (Class<T>) objectToPrependTo.getClass(), record);
+			return mapToEntity(data.getKey(), (Class<T>) ClassUtils.getUserClass(objectToPrependTo), record);
 		}
 		catch (AerospikeException o_O) {
 			DataAccessException translatedException = exceptionTranslator
@@ -778,7 +1635,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 				"Object to append to must not be null!");
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToAppendTo, data);
+			converter.writeKey(objectToAppendTo, data);
 			Operation[] ops = new Operation[values.size() + 1];
 			int x = 0;
 			for (Map.Entry<String, String> entry : values.entrySet()) {
@@ -787,9 +1644,11 @@ public class AerospikeTemplate implements AerospikeOperations {
 				x++;
 			}
 			ops[x] = Operation.get();
-			Record record = this.client.operate(null, data.getKey(), ops);
+			Key key = data.getKey();
+			forget(key);
+			Record record = measure(OPERATE, key, () -> this.client.operate(getWritePolicy(key.namespace), key, ops));
 
-			return mapToEntity(data.getKey(), (Class<T>) objectToAppendTo.getClass(), record);
+			return mapToEntity(data.getKey(), (Class<T>) ClassUtils.getUserClass(objectToAppendTo), record);
 		}
 		catch (AerospikeException o_O) {
 			DataAccessException translatedException = exceptionTranslator
@@ -806,12 +1665,14 @@ public class AerospikeTemplate implements AerospikeOperations {
 		try {
 
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToAppendTo, data);
-			Record record = this.client.operate(null, data.getKey(),
+			converter.writeKey(objectToAppendTo, data);
+			Key key = data.getKey();
+			forget(key);
+			Record record = measure(OPERATE, key, () -> this.client.operate(getWritePolicy(key.namespace), key,
 					Operation.append(new Bin(binName, value)),
-					Operation.get(binName));
+					Operation.get(binName)));
 
-			return mapToEntity(data.getKey(), (Class<T>) objectToAppendTo.getClass(), record);
+			return mapToEntity(data.getKey(), (Class<T>) ClassUtils.getUserClass(objectToAppendTo), record);
 		}
 		catch (AerospikeException o_O) {
 			DataAccessException translatedException = exceptionTranslator
@@ -826,7 +1687,7 @@ public class AerospikeTemplate implements AerospikeOperations {
 		Assert.notNull(values, "Values must not be null!");
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToAddTo, data);
+			converter.writeKey(objectToAddTo, data);
 			Operation[] operations = new Operation[values.size() + 1];
 			int x = 0;
 			for (Map.Entry<String, Long> entry : values.entrySet()) {
@@ -836,13 +1697,14 @@ public class AerospikeTemplate implements AerospikeOperations {
 			}
 			operations[x] = Operation.get();
 
-			WritePolicy writePolicy = new WritePolicy(this.client.writePolicyDefault);
+			WritePolicy writePolicy = new WritePolicy(getWritePolicy(data.getKey().namespace));
 			writePolicy.expiration = data.getExpiration();
 
-			Record record = this.client.operate(writePolicy, data.getKey(),
-					operations);
+			Key key = data.getKey();
+			forget(key);
+			Record record = measure(OPERATE, key, () -> this.client.operate(writePolicy, key, operations));
 
-			return mapToEntity(data.getKey(), (Class<T>) objectToAddTo.getClass(), record);
+			return mapToEntity(data.getKey(), (Class<T>) ClassUtils.getUserClass(objectToAddTo), record);
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
@@ -855,27 +1717,147 @@ public class AerospikeTemplate implements AerospikeOperations {
 		Assert.notNull(binName, "Bin name must not be null!");
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(objectToAddTo, data);
+			converter.writeKey(objectToAddTo, data);
 
-			WritePolicy writePolicy = new WritePolicy(this.client.writePolicyDefault);
+			WritePolicy writePolicy = new WritePolicy(getWritePolicy(data.getKey().namespace));
 			writePolicy.expiration = data.getExpiration();
 
-			Record record = this.client.operate(writePolicy, data.getKey(),
-					Operation.add(new Bin(binName, value)), Operation.get());
+			Key key = data.getKey();
+			forget(key);
+			Record record = measure(OPERATE, key, () -> this.client.operate(writePolicy, key,
+					Operation.add(new Bin(binName, value)), Operation.get()));
+
+			return mapToEntity(data.getKey(), (Class<T>) ClassUtils.getUserClass(objectToAddTo), record);
+		} catch (AerospikeException e) {
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+			throw translatedException == null ? e : translatedException;
+		}
+	}
 
-			return mapToEntity(data.getKey(), (Class<T>) objectToAddTo.getClass(), record);
+	@Override
+	public <T> OperationsBuilder<T> operate(Class<T> type, Serializable id) {
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		return new OperationsBuilder<T>(this, type, id);
+	}
+
+	@Override
+	public void putBlob(Class<?> type, Serializable id, String binName, ByteBuffer blob) {
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(binName, "Bin name must not be null!");
+		Assert.notNull(blob, "Blob must not be null!");
+		try {
+			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+			Key key = getKey(id, entity);
+
+			WritePolicy writePolicy = new WritePolicy(getWritePolicy(key.namespace));
+			writePolicy.sendKey = true;
+			writePolicy.expiration = entity.getExpiration();
+
+			forget(key);
+			measure(PUT, key, () -> this.client.put(writePolicy, key, new Bin(binName, BlobUtils.toValue(blob))));
+		} catch (AerospikeException e) {
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+			throw translatedException == null ? e : translatedException;
+		}
+	}
+
+	@Override
+	public ByteBuffer getBlob(Class<?> type, Serializable id, String binName) {
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(binName, "Bin name must not be null!");
+		try {
+			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+			Key key = getKey(id, entity);
+
+			Record record = measure(GET, key, () -> this.client.get(getReadPolicy(entity), key, binName));
+			if (record == null) {
+				return null;
+			}
+			Object value = record.getValue(binName);
+			if (value != null && !(value instanceof byte[])) {
+				throw new DataRetrievalFailureException("Bin " + binName + " of " + key + " holds a "
+						+ value.getClass().getName() + " instead of a blob");
+			}
+			return BlobUtils.toByteBuffer((byte[]) value);
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
 		}
 	}
 
+	<T> T execute(OperationsBuilder<T> builder) {
+		Class<T> type = builder.getType();
+		boolean read = builder.isReadAll() || !builder.getBinsToRead().isEmpty();
+		Assert.isTrue(read || !builder.getWriteOperations().isEmpty(), "At least one operation must be given!");
+		try {
+			AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+			Key key = getKey(builder.getId(), entity);
+
+			List<Operation> operations = new ArrayList<Operation>(builder.getWriteOperations());
+			Set<String> binsToRead = new HashSet<String>(builder.getBinsToRead());
+			if (builder.isReadAll()) {
+				operations.add(Operation.get());
+			} else if (read) {
+				String typeKey = converter.getAerospikeTypeAliasAccessor().getTypeKey();
+				if (typeKey != null) {
+					binsToRead.add(typeKey);
+				}
+				for (String binName : binsToRead) {
+					operations.add(Operation.get(binName));
+				}
+			}
+
+			WritePolicy writePolicy = new WritePolicy(getWritePolicy(key.namespace));
+			writePolicy.sendKey = true;
+			writePolicy.expiration = builder.getExpiration() != null ? builder.getExpiration() : entity.getExpiration();
+
+			forget(key);
+			Operation[] operationArray = operations.toArray(new Operation[operations.size()]);
+			Record record = measure(OPERATE, key, () -> this.client.operate(writePolicy, key, operationArray));
+			if (!read || record == null) {
+				return null;
+			}
+			return mapToEntity(key, type, new Record(getReadBins(builder, binsToRead, record),
+					record.generation, record.expiration));
+		} catch (AerospikeException e) {
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+			throw translatedException == null ? e : translatedException;
+		}
+	}
+
+	/**
+	 * Strips the results of list and map write operations, which are returned under the bin name ahead of the value
+	 * read in the same round trip.
+	 */
+	private Map<String, Object> getReadBins(OperationsBuilder<?> builder, Set<String> binsToRead, Record record) {
+		Map<String, Object> bins = new HashMap<String, Object>();
+		if (record.bins == null) {
+			return bins;
+		}
+		for (Map.Entry<String, Object> bin : record.bins.entrySet()) {
+			String binName = bin.getKey();
+			if (!builder.isReadAll() && !binsToRead.contains(binName)) {
+				continue;
+			}
+			Object value = bin.getValue();
+			if (builder.getWriteResults(binName) > 0) {
+				List<?> results = (List<?>) value;
+				value = results.get(results.size() - 1);
+			}
+			bins.put(binName, value);
+		}
+		return bins;
+	}
+
 	private <T> T mapToEntity(Key key, Class<T> type, Record record) {
 		if(record == null) {
 			return null;
 		}
 		AerospikeReadData data = AerospikeReadData.forRead(key, record);
-		T readEntity = converter.read(type, data);
+		T readEntity = recorder.conversion(READ, key.setName, () -> converter.read(type, data));
 
 		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
 		if (entity.hasVersionProperty()) {
@@ -886,6 +1868,69 @@ public class AerospikeTemplate implements AerospikeOperations {
 		return readEntity;
 	}
 
+	/**
+	 * Converts an entity saved by a {@link WriteBehindWriter} and forgets its record in the unit of work of the caller.
+	 */
+	AerospikeWriteData writeBehind(Object document) {
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassUtils.getUserClass(document));
+		Assert.isTrue(!entity.hasVersionProperty(), "Entities with version property can not be written behind!");
+
+		AerospikeWriteData data = AerospikeWriteData.forWrite();
+		writeEntity(document, data);
+		forget(data.getKey());
+		return data;
+	}
+
+	/**
+	 * Writes the bins of a record saved by a {@link WriteBehindWriter} with the save semantics of entities without
+	 * version property. The whole record is written, its snapshot is forgotten.
+	 */
+	void putBehind(Key key, Bin[] bins, int expiration) {
+		WritePolicy policy = WritePolicyBuilder.builder(getWritePolicy(key.namespace))
+				.sendKey(true)
+				.recordExistsAction(RecordExistsAction.UPDATE)
+				.expiration(expiration)
+				.build();
+		try {
+			measure(PUT, key, () -> client.put(policy, key, bins));
+		} catch (AerospikeException e) {
+			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+			throw translatedException == null ? e : translatedException;
+		} finally {
+			forget(key);
+		}
+	}
+
+	private void writeEntity(Object document, AerospikeWriteData data) {
+		OperationRecorder recorder = this.recorder;
+		if (recorder == OperationRecorder.NONE) {
+			converter.write(document, data);
+		} else {
+			recorder.conversion(WRITE, getSetName(ClassUtils.getUserClass(document)), () -> converter.write(document, data));
+		}
+	}
+
+	private <T> T measure(String operation, Key key, Supplier<T> request) {
+		return measure(operation, key.namespace, key.setName, request);
+	}
+
+	private void measure(String operation, Key key, Runnable request) {
+		measure(operation, key.namespace, key.setName, request);
+	}
+
+	private <T> T measure(String operation, String namespace, String setName, Supplier<T> request) {
+		OperationRecorder recorder = this.recorder;
+		return retryExecutor.execute(operation, namespace,
+				() -> recorder.operation(operation, namespace, setName, request));
+	}
+
+	private void measure(String operation, String namespace, String setName, Runnable request) {
+		measure(operation, namespace, setName, () -> {
+			request.run();
+			return null;
+		});
+	}
+
 	private ConvertingPropertyAccessor getPropertyAccessor(AerospikePersistentEntity<?> entity, Object source) {
 		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(source);
 		return new ConvertingPropertyAccessor(accessor, converter.getConversionService());
@@ -894,24 +1939,76 @@ public class AerospikeTemplate implements AerospikeOperations {
 	private void doPersist(Object document, WritePolicyBuilder policyBuilder) {
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(document, data);
+			writeEntity(document, data);
 
 			Key key = data.getKey();
 			Bin[] bins = data.getBinsAsArray();
 			WritePolicy policy = policyBuilder.expiration(data.getExpiration())
 					.build();
 
-			client.put(policy, key, bins);
+			RecordSnapshots.Snapshot snapshot = getSnapshot(key);
+			int generation = RecordSnapshots.UNKNOWN_GENERATION;
+			if (snapshot != null && snapshot.getGeneration() != RecordSnapshots.UNKNOWN_GENERATION
+					&& policy.recordExistsAction != RecordExistsAction.CREATE_ONLY) {
+				Set<String> removableBins = getPropertyBins(ClassUtils.getUserClass(document));
+				generation = writeChangedBins(key, policy, snapshot, bins, removableBins);
+			}
+			if (generation == RecordSnapshots.UNKNOWN_GENERATION) {
+				measure(PUT, key, () -> client.put(policy, key, bins));
+			}
+			updateSnapshot(key, bins, generation);
+			rememberEntity(key, document);
 		} catch (AerospikeException e) {
 			DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
 			throw translatedException == null ? e : translatedException;
 		}
 	}
 
+	/**
+	 * Sends only the bins changed since the snapshot. The write expects the generation of the snapshot, so that changes
+	 * of other clients made in the meantime are not kept in bins whose value equals the snapshot.
+	 *
+	 * @return the new generation of the record, {@link RecordSnapshots#UNKNOWN_GENERATION} if the record changed since
+	 * the snapshot and has to be written entirely.
+	 */
+	private int writeChangedBins(Key key, WritePolicy policy, RecordSnapshots.Snapshot snapshot, Bin[] bins,
+								 Set<String> removableBins) {
+		WritePolicy generationPolicy = new WritePolicy(policy);
+		generationPolicy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+		generationPolicy.generation = snapshot.getGeneration();
+		Operation[] operations = OperationUtils.changedBinOperations(snapshot.getBins(), bins, removableBins,
+				Operation.getHeader());
+		try {
+			Record record = measure(OPERATE, key, () -> client.operate(generationPolicy, key, operations));
+			return record.generation;
+		} catch (AerospikeException e) {
+			if (e.getResultCode() == ResultCode.GENERATION_ERROR || e.getResultCode() == ResultCode.KEY_NOT_FOUND_ERROR) {
+				return RecordSnapshots.UNKNOWN_GENERATION;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the names of the bins written for the persistent properties of the given type
+	 */
+	private Set<String> getPropertyBins(Class<?> type) {
+		return propertyBins.computeIfAbsent(type, t -> {
+			Set<String> binNames = new HashSet<String>();
+			mappingContext.getPersistentEntity(t).doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+				if (!property.isIdProperty() && !property.isExpirationProperty() && !property.isVersionProperty()
+						&& property.isWritable()) {
+					binNames.add(property.getFieldName());
+				}
+			});
+			return binNames;
+		});
+	}
+
 	private void doPersistWithCas(Object document, AerospikePersistentEntity<?> entity) {
 		try {
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
-			converter.write(document, data);
+			writeEntity(document, data);
 
 			Key key = data.getKey();
 			Bin[] bins = data.getBinsAsArray();
@@ -919,10 +2016,23 @@ public class AerospikeTemplate implements AerospikeOperations {
 			ConvertingPropertyAccessor accessor = getPropertyAccessor(entity, document);
 			WritePolicy policy = getCasAwareWritePolicy(data, entity, accessor);
 
-			Operation[] operations = OperationUtils.operations(bins, Operation::put, Operation.getHeader());
+			Operation[] operations;
+			RecordSnapshots.Snapshot snapshot = getSnapshot(key);
+			if (snapshot != null && policy.recordExistsAction == RecordExistsAction.REPLACE_ONLY
+					&& snapshot.getGeneration() == policy.generation) {
+				// the generation check guarantees the stored record still matches the snapshot, removing all previous
+				// bins that are not written keeps the semantics of the replacing write
+				policy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+				operations = OperationUtils.changedBinOperations(snapshot.getBins(), bins, snapshot.getBins().keySet(),
+						Operation.getHeader());
+			} else {
+				operations = OperationUtils.operations(bins, Operation::put, Operation.getHeader());
+			}
 
-			Record newRecord = client.operate(policy, key, operations);
+			Record newRecord = measure(OPERATE, key, () -> client.operate(policy, key, operations));
 			accessor.setProperty(entity.getVersionProperty(), newRecord.generation);
+			updateSnapshot(key, bins, newRecord.generation);
+			rememberEntity(key, document);
 		} catch (AerospikeException e) {
 			int code = e.getResultCode();
 			if (code == ResultCode.KEY_EXISTS_ERROR || code == ResultCode.GENERATION_ERROR) {
@@ -934,9 +2044,89 @@ public class AerospikeTemplate implements AerospikeOperations {
 		}
 	}
 
+	private void takeSnapshot(Key key, Record record) {
+		RecordSnapshots snapshots = this.snapshots;
+		if (snapshots != null && record != null) {
+			snapshots.put(key, record.bins, record.generation);
+		}
+	}
+
+	private void forget(Key key) {
+		RecordSnapshots snapshots = this.snapshots;
+		if (snapshots != null) {
+			snapshots.remove(key);
+		}
+		forgetEntity(key);
+	}
+
+	/**
+	 * Forgets all records of the given set, e.g. after they were deleted by a scan.
+	 */
+	private void forgetAll(String namespace, String setName) {
+		RecordSnapshots snapshots = this.snapshots;
+		if (snapshots != null) {
+			snapshots.removeAll(namespace, setName);
+		}
+		IdentityMap identityMap = getIdentityMap();
+		if (identityMap != null) {
+			identityMap.removeAll(namespace, setName);
+		}
+	}
+
+	private IdentityMap getIdentityMap() {
+		return identityMapEnabled ? IdentityMap.current(this) : null;
+	}
+
+	private void rememberEntity(Key key, Object document) {
+		IdentityMap identityMap = getIdentityMap();
+		if (identityMap != null) {
+			identityMap.put(key, document);
+		}
+	}
+
+	private void forgetEntity(Key key) {
+		IdentityMap identityMap = getIdentityMap();
+		if (identityMap != null) {
+			identityMap.remove(key);
+		}
+	}
+
+	private RecordSnapshots.Snapshot getSnapshot(Key key) {
+		RecordSnapshots snapshots = this.snapshots;
+		return snapshots == null ? null : snapshots.get(key);
+	}
+
+	private void updateSnapshot(Key key, Bin[] bins, int generation) {
+		RecordSnapshots snapshots = this.snapshots;
+		if (snapshots != null) {
+			Map<String, Object> values = new HashMap<String, Object>();
+			for (Bin bin : bins) {
+				values.put(bin.name, bin.value.getObject());
+			}
+			snapshots.put(key, values, generation);
+		}
+	}
+
+	private void updateSnapshot(Key key, Set<String> updatedBinNames, Map<String, Bin> writtenBins, int generation) {
+		RecordSnapshots snapshots = this.snapshots;
+		RecordSnapshots.Snapshot snapshot = snapshots == null ? null : snapshots.get(key);
+		if (snapshot != null) {
+			Map<String, Object> values = new HashMap<String, Object>(snapshot.getBins());
+			for (String binName : updatedBinNames) {
+				Bin bin = writtenBins.get(binName);
+				if (bin != null) {
+					values.put(binName, bin.value.getObject());
+				} else {
+					values.remove(binName);
+				}
+			}
+			snapshots.put(key, values, generation);
+		}
+	}
+
 	private WritePolicy getCasAwareWritePolicy(AerospikeWriteData data, AerospikePersistentEntity<?> entity,
 											   ConvertingPropertyAccessor accessor) {
-		WritePolicyBuilder builder = WritePolicyBuilder.builder(this.client.writePolicyDefault)
+		WritePolicyBuilder builder = WritePolicyBuilder.builder(getWritePolicy(getNamespace(entity)))
 				.sendKey(true)
 				.generationPolicy(GenerationPolicy.EXPECT_GEN_EQUAL)
 				.expiration(data.getExpiration());
@@ -956,6 +2146,52 @@ public class AerospikeTemplate implements AerospikeOperations {
 	}
 
 	private Key getKey(Object id, AerospikePersistentEntity<?> entity) {
-		return new Key(this.namespace, entity.getSetName(), id.toString());
+		return new Key(getNamespace(entity), entity.getSetName(), id.toString());
+	}
+
+	private String getNamespace(Class<?> type) {
+		return getNamespace(mappingContext.getPersistentEntity(type));
+	}
+
+	private String getNamespace(AerospikePersistentEntity<?> entity) {
+		String entityNamespace = entity.getNamespace();
+		return entityNamespace != null ? entityNamespace : this.namespace;
+	}
+
+	private WritePolicy getWritePolicy(String namespace) {
+		WritePolicy writePolicy = writePolicies.get(namespace);
+		return writePolicy != null ? writePolicy : this.client.writePolicyDefault;
+	}
+
+	private Policy getReadPolicy(String namespace) {
+		Policy readPolicy = readPolicies.get(namespace);
+		return readPolicy != null ? readPolicy : this.client.readPolicyDefault;
+	}
+
+	/**
+	 * The write policy of the namespace of the entity with the expiration of the entity and the {@link ReadPolicy}
+	 * annotations of the entity and of the repository method being executed applied, resolved once per combination.
+	 */
+	private WritePolicy getTouchPolicy(AerospikePersistentEntity<?> entity) {
+		ReadPolicy methodPolicy = ReadPolicyHolder.get();
+		return touchPolicies.computeIfAbsent(Arrays.asList(entity.getType(), methodPolicy), key -> {
+			WritePolicy writePolicy = new WritePolicy(getWritePolicy(getNamespace(entity)));
+			writePolicy.expiration = entity.getExpiration();
+			ReadPolicies.applyTo(writePolicy, AnnotationUtils.findAnnotation(entity.getType(), ReadPolicy.class));
+			ReadPolicies.applyTo(writePolicy, methodPolicy);
+			return writePolicy;
+		});
+	}
+
+	/**
+	 * The policy of the namespace of the entity with the {@link ReadPolicy} annotations of the entity and of the
+	 * repository method being executed applied, resolved once per combination.
+	 */
+	private Policy getReadPolicy(AerospikePersistentEntity<?> entity) {
+		ReadPolicy methodPolicy = ReadPolicyHolder.get();
+		return annotatedReadPolicies.computeIfAbsent(Arrays.asList(entity.getType(), methodPolicy), key -> {
+			ReadPolicy entityPolicy = AnnotationUtils.findAnnotation(entity.getType(), ReadPolicy.class);
+			return ReadPolicies.apply(ReadPolicies.apply(getReadPolicy(getNamespace(entity)), entityPolicy), methodPolicy);
+		});
 	}
 }
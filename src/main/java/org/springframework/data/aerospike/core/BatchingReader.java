@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Collects single record reads of concurrent callers into batch reads. The first caller of a batch waits for the
+ * window to pass and sends the batch, unless it fills up before, then the caller adding the last key sends it.
+ * Callers block until the record they asked for is read.
+ */
+class BatchingReader {
+
+	private final Function<Key[], Record[]> batchRead;
+	private final long windowNanos;
+	private final int maxKeys;
+
+	private Batch collecting;
+
+	/**
+	 * @param batchRead reads the records of the given keys, {@literal null} elements for records not found.
+	 * @param windowNanos time the first read of a batch waits for others.
+	 * @param maxKeys number of distinct keys sending a batch without waiting for the window to pass.
+	 */
+	BatchingReader(Function<Key[], Record[]> batchRead, long windowNanos, int maxKeys) {
+		this.batchRead = batchRead;
+		this.windowNanos = windowNanos;
+		this.maxKeys = maxKeys;
+	}
+
+	Record get(Key key) {
+		Batch batch;
+		CompletableFuture<Record> result;
+		boolean first;
+		boolean full;
+		synchronized (this) {
+			first = collecting == null;
+			if (first) {
+				collecting = new Batch();
+			}
+			batch = collecting;
+			result = batch.add(key);
+			full = batch.size() >= maxKeys;
+			if (full) {
+				collecting = null;
+			}
+		}
+
+		if (full) {
+			batch.send();
+		} else if (first) {
+			awaitWindow(result);
+			close(batch);
+			batch.send();
+		}
+		return join(result);
+	}
+
+	private void awaitWindow(CompletableFuture<Record> result) {
+		try {
+			result.get(windowNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			// the window passed or the batch was sent and failed, handled by the caller
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private synchronized void close(Batch batch) {
+		if (collecting == batch) {
+			collecting = null;
+		}
+	}
+
+	private static Record join(CompletableFuture<Record> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	private class Batch {
+
+		private final Map<Key, CompletableFuture<Record>> results = new LinkedHashMap<Key, CompletableFuture<Record>>();
+		private boolean sent;
+
+		CompletableFuture<Record> add(Key key) {
+			return results.computeIfAbsent(key, k -> new CompletableFuture<Record>());
+		}
+
+		int size() {
+			return results.size();
+		}
+
+		void send() {
+			// keys are only added while collecting, guarded by the reader
+			synchronized (BatchingReader.this) {
+				if (sent) {
+					return;
+				}
+				sent = true;
+			}
+			Key[] keys = results.keySet().toArray(new Key[0]);
+			try {
+				Record[] records = batchRead.apply(keys);
+				for (int i = 0; i < keys.length; i++) {
+					results.get(keys[i]).complete(records[i]);
+				}
+			} catch (RuntimeException | Error e) {
+				results.values().forEach(result -> result.completeExceptionally(e));
+			}
+		}
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Aggregates increments of counter bins locally and writes the sum of each window with a single add operation per
+ * record, without reading the record back. Meant for hot counters, where sending every increment causes
+ * {@code KEY_BUSY} errors.
+ * <p>
+ * Increments are accumulated in {@link LongAdder}s guarded by striped read locks, so concurrent callers only share a
+ * lock with the forgetting of idle records. They become
+ * visible in the database after at most one window. Deltas of writes rejected by the cluster, see
+ * {@link AerospikeRetryPolicy#REJECTED_RESULT_CODES}, are kept and written with the next window, they are dropped and
+ * logged once they are older than the maximum staleness. Deltas of writes in doubt, e.g. after a timeout, may already
+ * have been applied and are dropped and logged unless {@link #setRetryInDoubtWrites(boolean) enabled}. Pending deltas
+ * are written when the incrementer is destroyed.
+ */
+@Slf4j
+public class CoalescingIncrementer implements InitializingBean, DisposableBean {
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final AerospikeOperations operations;
+	private final long windowMillis;
+	private final long maxStalenessMillis;
+	private final ConcurrentMap<PendingKey, PendingIncrements> pending = new ConcurrentHashMap<PendingKey, PendingIncrements>();
+	private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+	private volatile boolean retryInDoubtWrites;
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * @param operations operations used to write the increments, must not be {@literal null}.
+	 * @param windowMillis interval of the writes.
+	 * @param maxStalenessMillis time after which deltas that could not be written are dropped.
+	 */
+	public CoalescingIncrementer(AerospikeOperations operations, long windowMillis, long maxStalenessMillis) {
+		Assert.notNull(operations, "Aerospike operations must not be null!");
+		Assert.isTrue(windowMillis > 0, "Window must be positive!");
+		Assert.isTrue(maxStalenessMillis >= windowMillis, "Max staleness must not be less than the window!");
+		this.operations = operations;
+		this.windowMillis = windowMillis;
+		this.maxStalenessMillis = maxStalenessMillis;
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	/**
+	 * Whether deltas of writes that failed in doubt are written again with the next window, which counts them twice if
+	 * the failed write was applied. Disabled by default.
+	 */
+	public void setRetryInDoubtWrites(boolean retryInDoubtWrites) {
+		this.retryInDoubtWrites = retryInDoubtWrites;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "aerospike-coalescing-incrementer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		if (scheduler != null) {
+			scheduler.shutdown();
+			scheduler.awaitTermination(maxStalenessMillis, TimeUnit.MILLISECONDS);
+		}
+		flush();
+	}
+
+	/**
+	 * Adds the given delta to a bin of the record with the given id with the next window.
+	 *
+	 * @param type type of the entity, must not be {@literal null}.
+	 * @param id id of the record, must not be {@literal null}.
+	 * @param binName name of the counter bin, must not be {@literal null}.
+	 * @param delta value to add.
+	 */
+	public void add(Class<?> type, Serializable id, String binName, long delta) {
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(binName, "Bin name must not be null!");
+
+		PendingKey key = new PendingKey(type, id);
+		// idle records are only forgotten under the write lock, so the increments cannot be forgotten while adding
+		Lock lock = getLock(key).readLock();
+		lock.lock();
+		try {
+			pending.computeIfAbsent(key, k -> new PendingIncrements())
+					.bins.computeIfAbsent(binName, name -> new LongAdder())
+					.add(delta);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all pending deltas, records without new deltas are forgotten.
+	 */
+	public synchronized void flush() {
+		List<PendingKey> idle = new ArrayList<PendingKey>();
+		for (Map.Entry<PendingKey, PendingIncrements> entry : pending.entrySet()) {
+			if (!write(entry.getKey(), entry.getValue())) {
+				idle.add(entry.getKey());
+			}
+		}
+
+		for (PendingKey key : idle) {
+			Lock lock = getLock(key).writeLock();
+			lock.lock();
+			try {
+				// deltas added since the write keep the record
+				PendingIncrements increments = pending.get(key);
+				if (increments != null && increments.isEmpty()) {
+					pending.remove(key);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private ReadWriteLock getLock(PendingKey key) {
+		return locks[(key.hashCode() & Integer.MAX_VALUE) % locks.length];
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.warn("Failed to flush increments", e);
+		}
+	}
+
+	/**
+	 * @return whether there were deltas to write.
+	 */
+	private boolean write(PendingKey key, PendingIncrements increments) {
+		Map<String, Long> deltas = new HashMap<String, Long>();
+		for (Map.Entry<String, LongAdder> bin : increments.bins.entrySet()) {
+			// sum and reset are not atomic, increments racing with them stay in the adder
+			long delta = bin.getValue().sum();
+			if (delta != 0) {
+				bin.getValue().add(-delta);
+				deltas.put(bin.getKey(), delta);
+			}
+		}
+		if (deltas.isEmpty()) {
+			increments.failingSince = 0;
+			return false;
+		}
+
+		try {
+			OperationsBuilder<?> builder = operations.operate(key.type, key.id);
+			deltas.forEach(builder::add);
+			builder.execute();
+			increments.failingSince = 0;
+		} catch (RuntimeException e) {
+			if (!retryInDoubtWrites && !isRejected(e)) {
+				log.error("Dropping increments {} of {} with id {}, the write is in doubt", deltas,
+						key.type.getName(), key.id, e);
+				increments.failingSince = 0;
+				return true;
+			}
+			long now = System.currentTimeMillis();
+			if (increments.failingSince == 0) {
+				increments.failingSince = now;
+			}
+			if (now - increments.failingSince > maxStalenessMillis) {
+				log.error("Dropping increments {} of {} with id {} after failing for {} ms", deltas,
+						key.type.getName(), key.id, now - increments.failingSince, e);
+				increments.failingSince = 0;
+			} else {
+				log.warn("Failed to write increments of {} with id {}, retrying with the next window",
+						key.type.getName(), key.id, e);
+				deltas.forEach((binName, delta) -> add(key.type, key.id, binName, delta));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the write was rejected without being applied, exceptions are usually translated and carry the
+	 * {@link AerospikeException} as cause.
+	 */
+	private static boolean isRejected(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof AerospikeException) {
+				return AerospikeRetryPolicy.REJECTED_RESULT_CODES.contains(((AerospikeException) cause).getResultCode());
+			}
+		}
+		return false;
+	}
+
+	private static class PendingIncrements {
+
+		private final ConcurrentMap<String, LongAdder> bins = new ConcurrentHashMap<String, LongAdder>();
+		private long failingSince;
+
+		boolean isEmpty() {
+			return bins.values().stream().allMatch(adder -> adder.sum() == 0);
+		}
+	}
+
+	private static class PendingKey {
+
+		private final Class<?> type;
+		private final Serializable id;
+
+		PendingKey(Class<?> type, Serializable id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof PendingKey)) {
+				return false;
+			}
+			PendingKey that = (PendingKey) o;
+			return type.equals(that.type) && id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + id.hashCode();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ObjectUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entities read or written within the current unit of work, i.e. while transaction synchronization is active on the
+ * current thread. Repeated reads of the same record return the same instance without a round trip. The map is bound
+ * as a transactional resource and discarded when the unit of work completes.
+ */
+class IdentityMap {
+
+	private final Map<Key, Object> entities = new HashMap<Key, Object>();
+
+	/**
+	 * @param owner key of the resource, each template has its own map.
+	 * @return the map of the current unit of work, {@literal null} if synchronization is not active.
+	 */
+	static IdentityMap current(final Object owner) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		IdentityMap identityMap = (IdentityMap) TransactionSynchronizationManager.getResource(owner);
+		if (identityMap == null) {
+			identityMap = new IdentityMap();
+			TransactionSynchronizationManager.bindResource(owner, identityMap);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+				}
+			});
+		}
+		return identityMap;
+	}
+
+	/**
+	 * @return the entity of the record if it is of the given type, {@literal null} otherwise.
+	 */
+	<T> T get(Key key, Class<T> type) {
+		Object entity = entities.get(key);
+		return type.isInstance(entity) ? type.cast(entity) : null;
+	}
+
+	void put(Key key, Object entity) {
+		entities.put(key, entity);
+	}
+
+	void remove(Key key) {
+		entities.remove(key);
+	}
+
+	/**
+	 * Removes the entities of all records of the given set.
+	 */
+	void removeAll(String namespace, String setName) {
+		entities.keySet().removeIf(key -> namespace.equals(key.namespace) && ObjectUtils.nullSafeEquals(setName, key.setName));
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import org.springframework.util.Assert;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures requests and conversions and reports them to an {@link AerospikeOperationListener}. Nothing is measured
+ * for {@link AerospikeOperationListener#NONE}.
+ */
+public final class OperationRecorder {
+
+	public static final OperationRecorder NONE = new OperationRecorder(AerospikeOperationListener.NONE);
+
+	private final AerospikeOperationListener listener;
+
+	public OperationRecorder(AerospikeOperationListener listener) {
+		Assert.notNull(listener, "Listener must not be null!");
+		this.listener = listener;
+	}
+
+	public static OperationRecorder of(AerospikeOperationListener listener) {
+		return listener == null || listener == AerospikeOperationListener.NONE ? NONE : new OperationRecorder(listener);
+	}
+
+	public AerospikeOperationListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Runs the given request and reports its duration and result code, taken from the {@link AerospikeException} if
+	 * the request fails.
+	 */
+	public <T> T operation(String operation, String namespace, String setName, Supplier<T> request) {
+		if (this == NONE) {
+			return request.get();
+		}
+
+		int resultCode = ResultCode.OK;
+		long start = System.nanoTime();
+		try {
+			return request.get();
+		} catch (AerospikeException e) {
+			resultCode = e.getResultCode();
+			throw e;
+		} catch (RuntimeException e) {
+			resultCode = ResultCode.CLIENT_ERROR;
+			throw e;
+		} finally {
+			listener.onOperation(operation, namespace, setName, resultCode, System.nanoTime() - start);
+		}
+	}
+
+	public void operation(String operation, String namespace, String setName, Runnable request) {
+		operation(operation, namespace, setName, () -> {
+			request.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Reports a request measured by the caller, e.g. a query whose duration includes the iteration of its results.
+	 */
+	public void operation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+		listener.onOperation(operation, namespace, setName, resultCode, durationNanos);
+	}
+
+	/**
+	 * Runs the given conversion and reports its duration.
+	 */
+	public <T> T conversion(String conversion, String setName, Supplier<T> converter) {
+		if (this == NONE) {
+			return converter.get();
+		}
+
+		long start = System.nanoTime();
+		try {
+			return converter.get();
+		} finally {
+			listener.onConversion(conversion, setName, System.nanoTime() - start);
+		}
+	}
+
+	public void conversion(String conversion, String setName, Runnable converter) {
+		conversion(conversion, setName, () -> {
+			converter.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Whether queries have to be described and measured.
+	 */
+	public boolean isEnabled() {
+		return this != NONE;
+	}
+
+	public void query(String namespace, String setName, String plan, int resultCount, long durationNanos) {
+		listener.onQuery(namespace, setName, plan, resultCount, durationNanos);
+	}
+
+	public void batch(String operation, String setName, int batchSize, int resultCount) {
+		listener.onBatch(operation, setName, batchSize, resultCount);
+	}
+}
@@ -2,7 +2,18 @@ package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.Bin;
 import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapPolicy;
+import com.aerospike.client.cdt.MapReturnType;
+import org.springframework.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 public class OperationUtils {
@@ -22,4 +33,152 @@ public class OperationUtils {
 		}
 		return operations;
 	}
+
+	/**
+	 * Creates the operations needed to turn a record holding the previous bins into one holding the given bins. Only
+	 * changed bins are written, changed map and list bins are updated entry by entry where that is cheaper than
+	 * rewriting the whole bin, and removable bins no longer present are deleted. Other previous bins, e.g. bins not
+	 * mapped by the entity, are left untouched. If nothing changed the record is touched so that the write still
+	 * updates the expiration.
+	 *
+	 * @param removableBins names of the previous bins to delete if they are not among the given bins
+	 */
+	public static Operation[] changedBinOperations(Map<String, Object> previousBins, Bin[] bins,
+												   Set<String> removableBins, Operation... additionalOperations) {
+		List<Operation> operations = new ArrayList<Operation>();
+		Set<String> writtenBins = new HashSet<String>();
+		for (Bin bin : bins) {
+			writtenBins.add(bin.name);
+			Object current = bin.value.getObject();
+			if (!previousBins.containsKey(bin.name)) {
+				operations.add(Operation.put(bin));
+			} else {
+				Object previous = previousBins.get(bin.name);
+				if (!valueEquals(previous, current)) {
+					addChangeOperations(operations, bin, previous, current);
+				}
+			}
+		}
+		for (String binName : previousBins.keySet()) {
+			if (!writtenBins.contains(binName) && removableBins.contains(binName)) {
+				operations.add(Operation.put(Bin.asNull(binName)));
+			}
+		}
+		if (operations.isEmpty()) {
+			operations.add(Operation.touch());
+		}
+		for (Operation additionalOp : additionalOperations) {
+			operations.add(additionalOp);
+		}
+		return operations.toArray(new Operation[operations.size()]);
+	}
+
+	private static void addChangeOperations(List<Operation> operations, Bin bin, Object previous, Object current) {
+		List<Operation> entryOperations = null;
+		if (previous instanceof Map && current instanceof Map) {
+			entryOperations = mapEntryOperations(bin.name, (Map<?, ?>) previous, (Map<?, ?>) current);
+		} else if (previous instanceof List && current instanceof List) {
+			entryOperations = listEntryOperations(bin.name, (List<?>) previous, (List<?>) current);
+		}
+
+		if (entryOperations == null) {
+			operations.add(Operation.put(bin));
+		} else {
+			operations.addAll(entryOperations);
+		}
+	}
+
+	/**
+	 * @return {@literal null} if rewriting the whole map is cheaper
+	 */
+	private static List<Operation> mapEntryOperations(String binName, Map<?, ?> previous, Map<?, ?> current) {
+		List<Operation> operations = new ArrayList<Operation>();
+		for (Map.Entry<?, ?> entry : current.entrySet()) {
+			Object key = entry.getKey();
+			if (!previous.containsKey(key) || !valueEquals(previous.get(key), entry.getValue())) {
+				operations.add(MapOperation.put(MapPolicy.Default, binName, Value.get(key), Value.get(entry.getValue())));
+			}
+		}
+		for (Object key : previous.keySet()) {
+			if (!current.containsKey(key)) {
+				operations.add(MapOperation.removeByKey(binName, Value.get(key), MapReturnType.NONE));
+			}
+		}
+		return operations.size() * 2 > current.size() ? null : operations;
+	}
+
+	/**
+	 * @return {@literal null} if rewriting the whole list is cheaper or the list shrank
+	 */
+	private static List<Operation> listEntryOperations(String binName, List<?> previous, List<?> current) {
+		if (current.size() < previous.size()) {
+			return null;
+		}
+		List<Operation> operations = new ArrayList<Operation>();
+		for (int i = 0; i < previous.size(); i++) {
+			if (!valueEquals(previous.get(i), current.get(i))) {
+				operations.add(ListOperation.set(binName, i, Value.get(current.get(i))));
+			}
+		}
+		if (operations.size() * 2 > previous.size()) {
+			return null;
+		}
+		if (current.size() > previous.size()) {
+			List<Value> appended = new ArrayList<Value>(current.size() - previous.size());
+			for (Object item : current.subList(previous.size(), current.size())) {
+				appended.add(Value.get(item));
+			}
+			operations.add(ListOperation.appendItems(binName, appended));
+		}
+		return operations;
+	}
+
+	/**
+	 * Compares values the way Aerospike stores them: integral numbers and booleans are read back as longs and
+	 * floating point numbers as doubles.
+	 */
+	static boolean valueEquals(Object previous, Object current) {
+		Object left = normalize(previous);
+		Object right = normalize(current);
+		if (left instanceof Map && right instanceof Map) {
+			Map<?, ?> leftMap = (Map<?, ?>) left;
+			Map<?, ?> rightMap = (Map<?, ?>) right;
+			if (leftMap.size() != rightMap.size()) {
+				return false;
+			}
+			for (Map.Entry<?, ?> entry : rightMap.entrySet()) {
+				if (!leftMap.containsKey(entry.getKey()) || !valueEquals(leftMap.get(entry.getKey()), entry.getValue())) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (left instanceof List && right instanceof List) {
+			List<?> leftList = (List<?>) left;
+			List<?> rightList = (List<?>) right;
+			if (leftList.size() != rightList.size()) {
+				return false;
+			}
+			for (int i = 0; i < leftList.size(); i++) {
+				if (!valueEquals(leftList.get(i), rightList.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return ObjectUtils.nullSafeEquals(left, right);
+	}
+
+	private static Object normalize(Object value) {
+		if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		if (value instanceof Float) {
+			return ((Float) value).doubleValue();
+		}
+		if (value instanceof Boolean) {
+			return (Boolean) value ? 1L : 0L;
+		}
+		return value;
+	}
 }
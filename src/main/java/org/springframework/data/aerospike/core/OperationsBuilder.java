@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapPolicy;
+import com.aerospike.client.cdt.MapReturnType;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder composing several operations on a single record, addressed by id, into one atomic round trip. Values are
+ * written as given, no conversion is applied. The result of {@link #execute()} is the entity mapped from the bins
+ * requested with {@link #get(String...)} or {@link #getAll()}.
+ *
+ * @param <T> entity type
+ */
+public class OperationsBuilder<T> {
+
+	private final AerospikeTemplate template;
+	private final Class<T> type;
+	private final Serializable id;
+	private final List<Operation> writeOperations = new ArrayList<Operation>();
+	private final List<String> binsToRead = new ArrayList<String>();
+	private final Map<String, Integer> writeResults = new HashMap<String, Integer>();
+	private boolean readAll;
+	private Integer expiration;
+
+	OperationsBuilder(AerospikeTemplate template, Class<T> type, Serializable id) {
+		this.template = template;
+		this.type = type;
+		this.id = id;
+	}
+
+	public OperationsBuilder<T> add(String binName, long value) {
+		return write(Operation.add(new Bin(binName, value)));
+	}
+
+	public OperationsBuilder<T> add(String binName, double value) {
+		return write(Operation.add(new Bin(binName, value)));
+	}
+
+	public OperationsBuilder<T> append(String binName, String value) {
+		return write(Operation.append(new Bin(binName, value)));
+	}
+
+	public OperationsBuilder<T> prepend(String binName, String value) {
+		return write(Operation.prepend(new Bin(binName, value)));
+	}
+
+	public OperationsBuilder<T> put(String binName, Object value) {
+		return write(Operation.put(new Bin(binName, value)));
+	}
+
+	public OperationsBuilder<T> listAppend(String binName, Object value) {
+		return writeWithResult(binName, ListOperation.append(binName, Value.get(value)));
+	}
+
+	public OperationsBuilder<T> listAppendItems(String binName, List<?> values) {
+		List<Value> items = new ArrayList<Value>(values.size());
+		for (Object value : values) {
+			items.add(Value.get(value));
+		}
+		return writeWithResult(binName, ListOperation.appendItems(binName, items));
+	}
+
+	public OperationsBuilder<T> mapPut(String binName, Object key, Object value) {
+		return writeWithResult(binName, MapOperation.put(MapPolicy.Default, binName, Value.get(key), Value.get(value)));
+	}
+
+	public OperationsBuilder<T> mapIncrement(String binName, Object key, long delta) {
+		return writeWithResult(binName, MapOperation.increment(MapPolicy.Default, binName, Value.get(key), Value.get(delta)));
+	}
+
+	public OperationsBuilder<T> mapRemoveByKey(String binName, Object key) {
+		return writeWithResult(binName, MapOperation.removeByKey(binName, Value.get(key), MapReturnType.COUNT));
+	}
+
+	public OperationsBuilder<T> touch() {
+		return write(Operation.touch());
+	}
+
+	/**
+	 * Overrides the expiration of the record, defaults to the expiration of the entity's document.
+	 */
+	public OperationsBuilder<T> expiration(int expiration) {
+		this.expiration = expiration;
+		return this;
+	}
+
+	/**
+	 * Reads the given bins after all write operations are applied.
+	 */
+	public OperationsBuilder<T> get(String... binNames) {
+		Collections.addAll(binsToRead, binNames);
+		return this;
+	}
+
+	/**
+	 * Reads all bins after all write operations are applied.
+	 */
+	public OperationsBuilder<T> getAll() {
+		this.readAll = true;
+		return this;
+	}
+
+	/**
+	 * Executes all operations in one round trip.
+	 *
+	 * @return the entity mapped from the requested bins, {@literal null} if no bins were requested or the record does
+	 * not exist.
+	 */
+	public T execute() {
+		return template.execute(this);
+	}
+
+	private OperationsBuilder<T> write(Operation operation) {
+		writeOperations.add(operation);
+		return this;
+	}
+
+	/**
+	 * List and map operations return a result under the bin name, it has to be told apart from the bin value when
+	 * the bin is read in the same round trip.
+	 */
+	private OperationsBuilder<T> writeWithResult(String binName, Operation operation) {
+		Integer results = writeResults.get(binName);
+		writeResults.put(binName, results == null ? 1 : results + 1);
+		return write(operation);
+	}
+
+	Class<T> getType() {
+		return type;
+	}
+
+	Serializable getId() {
+		return id;
+	}
+
+	List<Operation> getWriteOperations() {
+		return writeOperations;
+	}
+
+	List<String> getBinsToRead() {
+		return binsToRead;
+	}
+
+	boolean isReadAll() {
+		return readAll;
+	}
+
+	Integer getExpiration() {
+		return expiration;
+	}
+
+	int getWriteResults(String binName) {
+		Integer results = writeResults.get(binName);
+		return results == null ? 0 : results;
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.policy.Policy;
+import org.springframework.data.aerospike.annotation.ReadPolicy;
+import org.springframework.util.Assert;
+
+/**
+ * Applies {@link ReadPolicy} annotations to client policies.
+ */
+final class ReadPolicies {
+
+	private ReadPolicies() {
+	}
+
+	/**
+	 * @param base policy providing the unset attributes, not modified.
+	 * @param annotation may be {@literal null}.
+	 * @return the base policy if no annotation is given, otherwise a copy with the attributes of the annotation.
+	 */
+	static Policy apply(Policy base, ReadPolicy annotation) {
+		if (annotation == null) {
+			return base;
+		}
+		Policy policy = new Policy(base);
+		applyTo(policy, annotation);
+		return policy;
+	}
+
+	/**
+	 * Sets the attributes of the given annotation on the given policy, e.g. on the write policy of a touch on read.
+	 *
+	 * @param policy policy to modify.
+	 * @param annotation may be {@literal null}.
+	 */
+	static void applyTo(Policy policy, ReadPolicy annotation) {
+		if (annotation == null) {
+			return;
+		}
+		Assert.isTrue(annotation.replica().length <= 1, "At most one replica must be given!");
+		Assert.isTrue(annotation.consistencyLevel().length <= 1, "At most one consistency level must be given!");
+
+		if (annotation.socketTimeout() >= 0) {
+			policy.socketTimeout = annotation.socketTimeout();
+		}
+		if (annotation.totalTimeout() >= 0) {
+			policy.totalTimeout = annotation.totalTimeout();
+		}
+		if (annotation.maxRetries() >= 0) {
+			policy.maxRetries = annotation.maxRetries();
+		}
+		if (annotation.sleepBetweenRetries() >= 0) {
+			policy.sleepBetweenRetries = annotation.sleepBetweenRetries();
+		}
+		if (annotation.replica().length > 0) {
+			policy.replica = annotation.replica()[0];
+		}
+		if (annotation.consistencyLevel().length > 0) {
+			policy.consistencyLevel = annotation.consistencyLevel()[0];
+		}
+	}
+}
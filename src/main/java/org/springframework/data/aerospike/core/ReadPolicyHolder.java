@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import org.springframework.data.aerospike.annotation.ReadPolicy;
+
+/**
+ * Holds the {@link ReadPolicy} of the repository method executed by the current thread. Bound by the repository
+ * proxies and consulted by {@link AerospikeTemplate} for single record reads.
+ */
+public final class ReadPolicyHolder {
+
+	private static final ThreadLocal<ReadPolicy> CURRENT = new ThreadLocal<ReadPolicy>();
+
+	private ReadPolicyHolder() {
+	}
+
+	/**
+	 * @return the read policy bound to the current thread, {@literal null} if none.
+	 */
+	public static ReadPolicy get() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Binds the given read policy to the current thread.
+	 *
+	 * @param readPolicy the read policy, {@literal null} to unbind.
+	 * @return the previously bound read policy, to be restored when the method completes.
+	 */
+	public static ReadPolicy set(ReadPolicy readPolicy) {
+		ReadPolicy previous = CURRENT.get();
+		if (readPolicy == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(readPolicy);
+		}
+		return previous;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import org.springframework.util.ObjectUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, least recently used store of the bins last read or written for a record. Used for dirty tracking: on save
+ * the entity's bins are compared with the snapshot and only the difference is sent to the server.
+ */
+class RecordSnapshots {
+
+	/**
+	 * Used when the generation of a written record is not known, record generations start at 1.
+	 */
+	static final int UNKNOWN_GENERATION = 0;
+
+	private final Map<Key, Snapshot> snapshots;
+
+	RecordSnapshots(final int capacity) {
+		this.snapshots = new LinkedHashMap<Key, Snapshot>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Snapshot> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	synchronized void put(Key key, Map<String, Object> bins, int generation) {
+		snapshots.put(key, new Snapshot(bins, generation));
+	}
+
+	synchronized Snapshot get(Key key) {
+		return snapshots.get(key);
+	}
+
+	synchronized void remove(Key key) {
+		snapshots.remove(key);
+	}
+
+	/**
+	 * Removes the snapshots of all records of the given set.
+	 */
+	synchronized void removeAll(String namespace, String setName) {
+		snapshots.keySet().removeIf(key -> namespace.equals(key.namespace) && ObjectUtils.nullSafeEquals(setName, key.setName));
+	}
+
+	static class Snapshot {
+
+		private final Map<String, Object> bins;
+		private final int generation;
+
+		Snapshot(Map<String, Object> bins, int generation) {
+			this.bins = bins;
+			this.generation = generation;
+		}
+
+		Map<String, Object> getBins() {
+			return bins;
+		}
+
+		int getGeneration() {
+			return generation;
+		}
+	}
+}
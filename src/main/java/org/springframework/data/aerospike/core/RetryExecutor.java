@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.springframework.data.aerospike.core.AerospikeOperationListener.*;
+
+/**
+ * Retries requests failing with transient result codes according to the {@link AerospikeRetryPolicy} of their operation
+ * type, and stops sending requests to a namespace while its circuit breaker is open.
+ * <p>
+ * Reads are retried on all retryable result codes. Writes are retried only on the
+ * {@link AerospikeRetryPolicy#REJECTED_RESULT_CODES result codes} of requests that were not applied, other failures,
+ * e.g. timeouts, leave the write in doubt and are not retried unless enabled, as operations like increments are not
+ * idempotent.
+ */
+class RetryExecutor {
+
+	/**
+	 * Result codes counted by the circuit breakers, they indicate an unhealthy or overloaded node rather than a failure
+	 * specific to the key, like {@link ResultCode#KEY_BUSY} for a hot key.
+	 */
+	static final Set<Integer> CIRCUIT_BREAKER_RESULT_CODES = Collections.unmodifiableSet(new HashSet<Integer>(
+			Arrays.asList(ResultCode.TIMEOUT, ResultCode.DEVICE_OVERLOAD, ResultCode.NO_MORE_CONNECTIONS)));
+
+	private volatile AerospikeRetryPolicy defaultPolicy = AerospikeRetryPolicy.NONE;
+	private final Map<String, AerospikeRetryPolicy> policies = new ConcurrentHashMap<String, AerospikeRetryPolicy>();
+	private volatile boolean retryInDoubtWrites;
+
+	private volatile int failureThreshold;
+	private volatile long openDurationMillis;
+	private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<String, CircuitBreaker>();
+
+	void setDefaultPolicy(AerospikeRetryPolicy policy) {
+		Assert.notNull(policy, "Retry policy must not be null!");
+		this.defaultPolicy = policy;
+	}
+
+	void setPolicy(String operation, AerospikeRetryPolicy policy) {
+		Assert.notNull(operation, "Operation must not be null!");
+		Assert.notNull(policy, "Retry policy must not be null!");
+		this.policies.put(operation, policy);
+	}
+
+	void setRetryInDoubtWrites(boolean retryInDoubtWrites) {
+		this.retryInDoubtWrites = retryInDoubtWrites;
+	}
+
+	void setCircuitBreaker(int failureThreshold, long openDurationMillis) {
+		Assert.isTrue(failureThreshold >= 0, "Failure threshold must not be negative!");
+		Assert.isTrue(openDurationMillis >= 0, "Open duration must not be negative!");
+		this.failureThreshold = failureThreshold;
+		this.openDurationMillis = openDurationMillis;
+		this.circuitBreakers.clear();
+	}
+
+	<T> T execute(String operation, String namespace, Supplier<T> request) {
+		AerospikeRetryPolicy policy = policies.getOrDefault(operation, defaultPolicy);
+		CircuitBreaker circuitBreaker = failureThreshold == 0 ? null
+				: circuitBreakers.computeIfAbsent(namespace, name -> new CircuitBreaker());
+
+		for (int attempt = 1; ; attempt++) {
+			if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+				throw new TransientDataAccessResourceException("Circuit breaker of namespace " + namespace
+						+ " is open after " + failureThreshold + " consecutive transient failures");
+			}
+			try {
+				T result = request.get();
+				if (circuitBreaker != null) {
+					circuitBreaker.onSuccess();
+				}
+				return result;
+			} catch (AerospikeException e) {
+				int resultCode = e.getResultCode();
+				boolean transientFailure = policy.isRetryable(resultCode);
+				if (circuitBreaker != null && CIRCUIT_BREAKER_RESULT_CODES.contains(resultCode)) {
+					circuitBreaker.onFailure();
+				} else if (circuitBreaker != null) {
+					// the cluster answered, the failure is specific to the request
+					circuitBreaker.onSuccess();
+				}
+				if (!transientFailure || attempt >= policy.getMaxAttempts() || !isRetryable(operation, resultCode)) {
+					throw e;
+				}
+				sleep(policy.getBackoffMillis(attempt), e);
+			}
+		}
+	}
+
+	private boolean isRetryable(String operation, int resultCode) {
+		boolean write = PUT.equals(operation) || OPERATE.equals(operation) || DELETE.equals(operation);
+		return !write || retryInDoubtWrites || AerospikeRetryPolicy.REJECTED_RESULT_CODES.contains(resultCode);
+	}
+
+	private static void sleep(long millis, AerospikeException cause) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw cause;
+		}
+	}
+
+	/**
+	 * Opens after the configured number of consecutive transient failures and lets a single trial request pass once the
+	 * open duration elapsed, which closes it again if it succeeds.
+	 */
+	private class CircuitBreaker {
+
+		private final AtomicInteger consecutiveFailures = new AtomicInteger();
+		private volatile long openedAt;
+
+		boolean allowRequest() {
+			long openedAt = this.openedAt;
+			if (openedAt == 0) {
+				return true;
+			}
+			long now = System.currentTimeMillis();
+			// only one caller wins the trial request, the others keep failing fast
+			return now - openedAt >= openDurationMillis && compareAndSetOpenedAt(openedAt, now);
+		}
+
+		void onSuccess() {
+			consecutiveFailures.set(0);
+			openedAt = 0;
+		}
+
+		void onFailure() {
+			if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+				openedAt = System.currentTimeMillis();
+			}
+		}
+
+		private synchronized boolean compareAndSetOpenedAt(long expected, long value) {
+			if (openedAt != expected) {
+				return false;
+			}
+			openedAt = value;
+			return true;
+		}
+	}
+}
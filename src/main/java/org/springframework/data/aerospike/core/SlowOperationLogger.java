@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AerospikeOperationListener} logging requests and queries taking longer than a threshold as warnings,
+ * queries together with their plan, so that unintended scans of whole sets can be found. A sample of all requests can
+ * additionally be logged at debug level, like the spans of a sampling tracer.
+ * <p>
+ * The repository method executing a query is taken from the {@link #REPOSITORY_METHOD} entry of the {@link MDC}, which
+ * is set by repository queries.
+ */
+@Slf4j
+public class SlowOperationLogger implements AerospikeOperationListener {
+
+	public static final String REPOSITORY_METHOD = "aerospike.repositoryMethod";
+
+	private final long thresholdNanos;
+	private final double sampleRate;
+
+	/**
+	 * @param threshold duration above which a request is logged, must not be negative.
+	 * @param unit unit of the threshold.
+	 */
+	public SlowOperationLogger(long threshold, TimeUnit unit) {
+		this(threshold, unit, 0);
+	}
+
+	/**
+	 * @param threshold duration above which a request is logged, must not be negative.
+	 * @param unit unit of the threshold.
+	 * @param sampleRate fraction of all requests logged at debug level, between {@code 0} and {@code 1}.
+	 */
+	public SlowOperationLogger(long threshold, TimeUnit unit, double sampleRate) {
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1!");
+		this.thresholdNanos = unit.toNanos(threshold);
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+		if (durationNanos > thresholdNanos) {
+			log.warn("Slow {} on {}.{} took {} ms, result code {}{}", operation, namespace, setName,
+					toMillis(durationNanos), resultCode, getRepositoryMethod());
+		} else if (isSampled()) {
+			log.debug("{} on {}.{} took {} ms, result code {}{}", operation, namespace, setName,
+					toMillis(durationNanos), resultCode, getRepositoryMethod());
+		}
+	}
+
+	@Override
+	public void onQuery(String namespace, String setName, String plan, int resultCount, long durationNanos) {
+		if (durationNanos > thresholdNanos) {
+			log.warn("Slow query on {}.{} took {} ms and returned {} records using {}{}", namespace, setName,
+					toMillis(durationNanos), resultCount, plan, getRepositoryMethod());
+		} else if (isSampled()) {
+			log.debug("Query on {}.{} took {} ms and returned {} records using {}{}", namespace, setName,
+					toMillis(durationNanos), resultCount, plan, getRepositoryMethod());
+		}
+	}
+
+	@Override
+	public void onConversion(String conversion, String setName, long durationNanos) {
+		if (durationNanos > thresholdNanos) {
+			log.warn("Slow {} conversion of a record of set {} took {} ms{}", conversion, setName,
+					toMillis(durationNanos), getRepositoryMethod());
+		}
+	}
+
+	private boolean isSampled() {
+		return sampleRate > 0 && log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	private static String getRepositoryMethod() {
+		String method = MDC.get(REPOSITORY_METHOD);
+		return method == null ? "" : " in " + method;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+}
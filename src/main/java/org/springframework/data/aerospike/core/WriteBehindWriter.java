@@ -0,0 +1,513 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Saves entities asynchronously. {@link #save(Object)} converts the entity, appends its bins to a local journal and
+ * returns, the records are written in the background by the {@link AerospikeTemplate} with its save semantics for
+ * entities without version property, i.e. with its write policies, retry policies, circuit breakers, operation
+ * listener and exception translation. Their record snapshots and identity map entries are forgotten. Meant for data
+ * like telemetry, where eventual persistence is acceptable and the latency of the callers must not depend on the
+ * latency of the cluster.
+ * <p>
+ * Only the latest save of a record is written, saves of the same record are applied in order. Records that failed to be
+ * written are retried with the next flush. Callers block while the configured number of records is waiting to be
+ * written. The journal consists of segment files, a new segment is started with each flush and the previous one is
+ * deleted once its records are written or carried over to the new segment. Records of segments left by a previous run
+ * are written when the writer is started. Journal appends are not forced to the storage device, they survive a crash of
+ * the process but not of the machine.
+ * <p>
+ * Records written behind are not visible to reads until they are flushed.
+ */
+@Slf4j
+public class WriteBehindWriter implements InitializingBean, DisposableBean {
+
+	private static final String SEGMENT_PREFIX = "journal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private final AerospikeTemplate template;
+	private final File journalDirectory;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notFull = lock.newCondition();
+	private final Object flushMonitor = new Object();
+
+	private long flushIntervalMillis = 100;
+	private int maxPendingWrites = 10000;
+	private Executor writeExecutor;
+	private ScheduledExecutorService scheduler;
+
+	// guarded by lock
+	private Map<Key, JournalEntry> pending = new LinkedHashMap<Key, JournalEntry>();
+	private long segmentNumber;
+	private File segment;
+	private FileChannel journal;
+
+	/**
+	 * @param template template converting the entities and writing the records, must not be {@literal null}.
+	 * @param journalDirectory directory of the journal segments, must not be {@literal null} and must not be shared
+	 * with other writers.
+	 */
+	public WriteBehindWriter(AerospikeTemplate template, File journalDirectory) {
+		Assert.notNull(template, "Aerospike template must not be null!");
+		Assert.notNull(journalDirectory, "Journal directory must not be null!");
+		this.template = template;
+		this.journalDirectory = journalDirectory;
+	}
+
+	/**
+	 * Sets the interval of the background writes, {@code 100} milliseconds by default.
+	 */
+	public void setFlushIntervalMillis(long flushIntervalMillis) {
+		Assert.isTrue(flushIntervalMillis > 0, "Flush interval must be positive!");
+		this.flushIntervalMillis = flushIntervalMillis;
+	}
+
+	/**
+	 * Sets the number of distinct records waiting to be written at which {@link #save(Object)} blocks, {@code 10000}
+	 * by default.
+	 */
+	public void setMaxPendingWrites(int maxPendingWrites) {
+		Assert.isTrue(maxPendingWrites > 0, "Max pending writes must be positive!");
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
+	/**
+	 * Sets the executor writing the records of a flush in parallel. They are written sequentially by the flushing
+	 * thread if none is set.
+	 */
+	public void setWriteExecutor(Executor writeExecutor) {
+		this.writeExecutor = writeExecutor;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws IOException {
+		if (!journalDirectory.isDirectory() && !journalDirectory.mkdirs()) {
+			throw new IOException("Failed to create journal directory " + journalDirectory);
+		}
+		List<File> previousSegments = listSegments();
+		for (File previousSegment : previousSegments) {
+			for (JournalEntry entry : readSegment(previousSegment)) {
+				pending.put(entry.getKey(), entry);
+			}
+			segmentNumber = Math.max(segmentNumber, getSegmentNumber(previousSegment));
+		}
+		if (!pending.isEmpty()) {
+			log.info("Replaying {} records from the write-behind journal {}", pending.size(), journalDirectory);
+		}
+
+		lock.lock();
+		try {
+			openSegment();
+			for (JournalEntry entry : pending.values()) {
+				append(entry.serialize());
+			}
+		} finally {
+			lock.unlock();
+		}
+		for (File previousSegment : previousSegments) {
+			deleteSegment(previousSegment);
+		}
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "aerospike-write-behind");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() throws InterruptedException, IOException {
+		if (scheduler != null) {
+			scheduler.shutdown();
+			scheduler.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		flushQuietly();
+		lock.lock();
+		try {
+			if (journal != null) {
+				journal.close();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Appends the bins of the given entity to the journal, it is written with one of the next flushes.
+	 *
+	 * @param document entity without version property, must not be {@literal null}.
+	 * @throws DataAccessResourceFailureException if the journal can not be written or the caller is interrupted while
+	 * waiting for pending writes.
+	 */
+	public void save(Object document) {
+		Assert.notNull(document, "Object to save must not be null!");
+
+		JournalEntry entry = JournalEntry.of(template.writeBehind(document));
+		byte[] serialized = entry.serialize();
+
+		lock.lock();
+		try {
+			Assert.state(journal != null && journal.isOpen(), "Write-behind writer is not started!");
+			while (pending.size() >= maxPendingWrites && !pending.containsKey(entry.getKey())) {
+				notFull.await();
+			}
+			append(serialized);
+			pending.put(entry.getKey(), entry);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataAccessResourceFailureException("Interrupted while waiting for pending writes", e);
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException("Failed to append to the write-behind journal", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all records saved so far. Records that failed to be written are kept for the next flush.
+	 *
+	 * @return number of records that failed to be written.
+	 */
+	public int flush() throws IOException {
+		synchronized (flushMonitor) {
+			Map<Key, JournalEntry> batch;
+			File completedSegment;
+			lock.lock();
+			try {
+				if (pending.isEmpty()) {
+					return 0;
+				}
+				batch = pending;
+				pending = new LinkedHashMap<Key, JournalEntry>();
+				completedSegment = segment;
+				journal.close();
+				openSegment();
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+
+			List<JournalEntry> failed = write(batch.values());
+
+			lock.lock();
+			try {
+				for (JournalEntry entry : failed) {
+					// a newer save of the record supersedes the failed one
+					if (!pending.containsKey(entry.getKey())) {
+						append(entry.serialize());
+						pending.put(entry.getKey(), entry);
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+			deleteSegment(completedSegment);
+			return failed.size();
+		}
+	}
+
+	/**
+	 * @return number of distinct records waiting to be written.
+	 */
+	public int getPendingWrites() {
+		lock.lock();
+		try {
+			return pending.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void flushQuietly() {
+		try {
+			int failed = flush();
+			if (failed > 0) {
+				log.warn("Failed to write {} records behind, retrying with the next flush", failed);
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("Failed to flush the write-behind journal", e);
+		}
+	}
+
+	private List<JournalEntry> write(Collection<JournalEntry> entries) {
+		List<JournalEntry> failed = Collections.synchronizedList(new ArrayList<JournalEntry>());
+		Executor executor = this.writeExecutor;
+		if (executor == null) {
+			for (JournalEntry entry : entries) {
+				if (!write(entry)) {
+					failed.add(entry);
+				}
+			}
+		} else {
+			// every record occurs once per flush, so parallel writes keep the order of its saves
+			CompletableFuture<?>[] writes = entries.stream()
+					.map(entry -> CompletableFuture.runAsync(() -> {
+						if (!write(entry)) {
+							failed.add(entry);
+						}
+					}, executor))
+					.toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(writes).join();
+		}
+		return failed;
+	}
+
+	private boolean write(JournalEntry entry) {
+		try {
+			template.putBehind(entry.getKey(), entry.getBins(), entry.expiration);
+			return true;
+		} catch (RuntimeException e) {
+			log.debug("Failed to write record {} behind", entry.getKey(), e);
+			return false;
+		}
+	}
+
+	private void openSegment() throws IOException {
+		segment = new File(journalDirectory, SEGMENT_PREFIX + (++segmentNumber) + SEGMENT_SUFFIX);
+		journal = FileChannel.open(segment.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+	}
+
+	private void append(byte[] serialized) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(4 + serialized.length);
+		buffer.putInt(serialized.length).put(serialized).flip();
+		while (buffer.hasRemaining()) {
+			journal.write(buffer);
+		}
+	}
+
+	private List<File> listSegments() {
+		File[] files = journalDirectory.listFiles(
+				(dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+		List<File> segments = files == null ? new ArrayList<File>() : new ArrayList<File>(Arrays.asList(files));
+		segments.sort((first, second) -> Long.compare(getSegmentNumber(first), getSegmentNumber(second)));
+		return segments;
+	}
+
+	private static long getSegmentNumber(File segment) {
+		String name = segment.getName();
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private static List<JournalEntry> readSegment(File segment) throws IOException {
+		List<JournalEntry> entries = new ArrayList<JournalEntry>();
+		try (DataInputStream input = new DataInputStream(new FileInputStream(segment))) {
+			while (true) {
+				byte[] serialized;
+				try {
+					serialized = new byte[input.readInt()];
+					input.readFully(serialized);
+				} catch (EOFException e) {
+					// the end of the segment, or a record cut off by a crash while it was appended
+					return entries;
+				}
+				entries.add(JournalEntry.deserialize(serialized));
+			}
+		}
+	}
+
+	private static void deleteSegment(File segment) {
+		if (!segment.delete()) {
+			log.warn("Failed to delete write-behind journal segment {}", segment);
+		}
+	}
+
+	/**
+	 * Journaled record. Bin values are journaled as the objects they wrap, except for values whose type would be lost
+	 * or that are not serializable, see {@link TypedValue}.
+	 */
+	static class JournalEntry implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String namespace;
+		private final String setName;
+		private final Object userKey;
+		private final LinkedHashMap<String, Serializable> bins;
+		private final int expiration;
+		private transient Key key;
+
+		private JournalEntry(String namespace, String setName, Object userKey, LinkedHashMap<String, Serializable> bins,
+							 int expiration) {
+			this.namespace = namespace;
+			this.setName = setName;
+			this.userKey = userKey;
+			this.bins = bins;
+			this.expiration = expiration;
+		}
+
+		static JournalEntry of(AerospikeWriteData data) {
+			Key key = data.getKey();
+			Assert.state(key.userKey != null, "Records written behind need a user key!");
+			LinkedHashMap<String, Serializable> bins = new LinkedHashMap<String, Serializable>();
+			for (Bin bin : data.getBins()) {
+				bins.put(bin.name, TypedValue.toJournal(bin.value));
+			}
+			return new JournalEntry(key.namespace, key.setName, key.userKey.getObject(), bins, data.getExpiration());
+		}
+
+		Key getKey() {
+			if (key == null) {
+				key = new Key(namespace, setName, Value.get(userKey));
+			}
+			return key;
+		}
+
+		Bin[] getBins() {
+			return bins.entrySet().stream()
+					.map(bin -> new Bin(bin.getKey(), TypedValue.toValue(TypedValue.fromJournal(bin.getValue()))))
+					.toArray(Bin[]::new);
+		}
+
+		byte[] serialize() {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+				output.writeObject(this);
+			} catch (IOException e) {
+				throw new DataAccessResourceFailureException("Failed to serialize record " + getKey(), e);
+			}
+			return bytes.toByteArray();
+		}
+
+		static JournalEntry deserialize(byte[] serialized) throws IOException {
+			try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+				return (JournalEntry) input.readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException("Failed to read write-behind journal entry", e);
+			}
+		}
+	}
+
+	/**
+	 * Journaled value of a particle type that can not be restored from the object it wraps: GeoJSON values would be
+	 * restored as strings and blobs may wrap a segment of a buffer. Lists and maps are journaled element by element,
+	 * they may contain such values.
+	 */
+	private static class TypedValue implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int particleType;
+		private final Serializable value;
+
+		private TypedValue(int particleType, Serializable value) {
+			this.particleType = particleType;
+			this.value = value;
+		}
+
+		static Serializable toJournal(Object value) {
+			if (value instanceof Value) {
+				Value aerospikeValue = (Value) value;
+				switch (aerospikeValue.getType()) {
+					case ParticleType.GEOJSON:
+						return new TypedValue(ParticleType.GEOJSON, aerospikeValue.toString());
+					case ParticleType.BLOB:
+						byte[] bytes = new byte[aerospikeValue.estimateSize()];
+						aerospikeValue.write(bytes, 0);
+						return new TypedValue(ParticleType.BLOB, bytes);
+					default:
+						return toJournal(aerospikeValue.getObject());
+				}
+			}
+			if (value instanceof List) {
+				ArrayList<Serializable> list = new ArrayList<Serializable>();
+				for (Object element : (List<?>) value) {
+					list.add(toJournal(element));
+				}
+				return list;
+			}
+			if (value instanceof Map) {
+				LinkedHashMap<Serializable, Serializable> map = new LinkedHashMap<Serializable, Serializable>();
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					map.put(toJournal(entry.getKey()), toJournal(entry.getValue()));
+				}
+				return map;
+			}
+			if (value != null && !(value instanceof Serializable)) {
+				throw new IllegalArgumentException("Can not journal value of type " + value.getClass().getName());
+			}
+			return (Serializable) value;
+		}
+
+		static Value toValue(Object value) {
+			return value instanceof Value ? (Value) value : Value.get(value);
+		}
+
+		static Object fromJournal(Serializable journaled) {
+			if (journaled instanceof TypedValue) {
+				TypedValue typedValue = (TypedValue) journaled;
+				return typedValue.particleType == ParticleType.GEOJSON
+						? new Value.GeoJSONValue((String) typedValue.value)
+						: Value.get((byte[]) typedValue.value);
+			}
+			if (journaled instanceof List) {
+				List<Object> list = new ArrayList<Object>();
+				for (Object element : (List<?>) journaled) {
+					list.add(fromJournal((Serializable) element));
+				}
+				return list;
+			}
+			if (journaled instanceof Map) {
+				Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) journaled).entrySet()) {
+					map.put(fromJournal((Serializable) entry.getKey()), fromJournal((Serializable) entry.getValue()));
+				}
+				return map;
+			}
+			return journaled;
+		}
+	}
+}
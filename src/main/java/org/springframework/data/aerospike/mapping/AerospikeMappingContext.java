@@ -89,4 +89,14 @@ public class AerospikeMappingContext extends
 	public void setDefaultNameSpace(String defaultNameSpace) {
 		this.defaultNameSpace = defaultNameSpace;
 	}
+
+	/**
+	 * Discards the metadata resolved from environment properties for all known entities, e.g. after the properties
+	 * referenced by {@link Document#expirationExpression()} changed.
+	 */
+	public void refreshEntityMetadata() {
+		for (BasicAerospikePersistentEntity<?> entity : getPersistentEntities()) {
+			entity.refresh();
+		}
+	}
 }
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.springframework.data.aerospike.mapping;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 import org.springframework.data.mapping.model.SimpleTypeHolder;
@@ -68,6 +69,7 @@ public abstract class AerospikeSimpleTypes {
 		simpleTypes.add(Enum.class);
 		simpleTypes.add(Byte[].class);
 		simpleTypes.add(UUID.class);
+		simpleTypes.add(ByteBuffer.class);
 		AEROSPIKE_SIMPLE_TYPES = Collections.unmodifiableSet(simpleTypes);
 	}
 
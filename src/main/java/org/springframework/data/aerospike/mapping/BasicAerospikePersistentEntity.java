@@ -34,11 +34,14 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 
 	static final int DEFAULT_EXPIRATION = 0;
 
-	private final TypeInformation<?> typeInformation;
-	private final String defaultNameSpace;
+	private final String namespace;
+	private final Document document;
+	private final String setName;
+	private final boolean touchOnRead;
 
 	private AerospikePersistentProperty expirationProperty;
 	private Environment environment;
+	private volatile Integer expiration;
 
 	/**
 	 * Creates a new {@link BasicAerospikePersistentEntity} using the given {@link TypeInformation}.
@@ -49,8 +52,11 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 	public BasicAerospikePersistentEntity(TypeInformation<T> information, String defaultNameSpace) {
 
 		super(information);
-		this.typeInformation = information;
-		this.defaultNameSpace = defaultNameSpace;
+		Class<?> clazz = information.getType();
+		this.document = clazz.getAnnotation(Document.class);
+		this.namespace = document != null && !document.namespace().isEmpty() ? document.namespace() : defaultNameSpace;
+		this.setName = document != null && !document.collection().isEmpty() ? document.collection() : clazz.getSimpleName();
+		this.touchOnRead = document != null && document.touchOnRead();
 	}
 
 	@Override
@@ -70,7 +76,7 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 
 	@Override
 	public String getNamespace() {
-		return defaultNameSpace;
+		return namespace;
 	}
 
 	/*
@@ -79,12 +85,7 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 		 */
 	@Override
 	public String getSetName() {
-		Class<?> clazz = typeInformation.getType();
-		Document annotation = clazz.getAnnotation(Document.class);
-		if(annotation != null && ! annotation.collection().isEmpty()){
-			return annotation.collection();
-		}
-		return clazz.getSimpleName();
+		return setName;
 	}
 
 	@Override
@@ -95,19 +96,17 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 
 	@Override
 	public int getExpiration() {
-		Document annotation = getType().getAnnotation(Document.class);
-		if (annotation == null) {
-			return DEFAULT_EXPIRATION;
+		Integer expiration = this.expiration;
+		if (expiration == null) {
+			expiration = resolveExpiration();
+			this.expiration = expiration;
 		}
-
-		int expirationValue = getExpirationValue(annotation);
-		return (int) annotation.expirationUnit().toSeconds(expirationValue);
+		return expiration;
 	}
 
 	@Override
 	public boolean isTouchOnRead() {
-		Document annotation = getType().getAnnotation(Document.class);
-		return annotation != null && annotation.touchOnRead();
+		return touchOnRead;
 	}
 
 	@Override
@@ -123,6 +122,24 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
+		refresh();
+	}
+
+	/**
+	 * Discards the resolved expiration, so that a changed {@code expirationExpression} property is picked up on the next
+	 * call to {@link #getExpiration()}.
+	 */
+	public void refresh() {
+		this.expiration = null;
+	}
+
+	private int resolveExpiration() {
+		if (document == null) {
+			return DEFAULT_EXPIRATION;
+		}
+
+		int expirationValue = getExpirationValue(document);
+		return (int) document.expirationUnit().toSeconds(expirationValue);
 	}
 
 	private int getExpirationValue(Document annotation) {
@@ -42,6 +42,12 @@ public @interface Document {
 	//TODO: add support for SPEL expression
 	String collection() default "";
 
+	/**
+	 * An optional namespace of the document, e.g. to keep frequently accessed documents in an in-memory namespace and
+	 * others in a namespace stored on SSDs. Default is the namespace of the mapping context.
+	 */
+	String namespace() default "";
+
 	/**
 	 * Defines the default language to be used with this document.
 	 * 
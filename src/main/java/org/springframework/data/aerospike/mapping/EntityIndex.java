@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.mapping;
+
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Index of the entity types of an application, written at compile time by {@link EntityIndexProcessor} so that the
+ * classpath does not have to be scanned on startup.
+ */
+public abstract class EntityIndex {
+
+	/**
+	 * Location of the index files, one fully qualified binary class name per line.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-aerospike.entities";
+
+	private EntityIndex() {
+	}
+
+	/**
+	 * Loads the entity types in the given package and its sub-packages from all index files visible to the class loader.
+	 *
+	 * @param basePackage package to load the types of, all types are loaded if empty.
+	 * @param classLoader class loader to load the index files and types with.
+	 * @return the indexed types or {@literal null} if no index lists types in the package.
+	 */
+	public static Set<Class<?>> load(String basePackage, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+		String prefix = basePackage == null || basePackage.isEmpty() ? "" : basePackage + ".";
+		Set<Class<?>> types = new LinkedHashSet<Class<?>>();
+		while (indexes.hasMoreElements()) {
+			for (String className : read(indexes.nextElement())) {
+				if (className.startsWith(prefix)) {
+					types.add(ClassUtils.forName(className, classLoader));
+				}
+			}
+		}
+		return types.isEmpty() ? null : types;
+	}
+
+	/**
+	 * Returns the class path roots containing the given package that have no index file, their entity types have to be
+	 * found by scanning.
+	 *
+	 * @param basePackage package whose roots to return, must not be empty.
+	 * @param classLoader class loader to find the roots with.
+	 * @return URL prefixes of the roots, e.g. {@code file:/app/classes/} or {@code jar:file:/app/lib/model.jar!/}.
+	 */
+	public static Set<String> getUnindexedRoots(String basePackage, ClassLoader classLoader) throws IOException {
+		Set<String> indexedRoots = new LinkedHashSet<String>();
+		Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+		while (indexes.hasMoreElements()) {
+			indexedRoots.add(getRoot(indexes.nextElement(), INDEX_LOCATION));
+		}
+
+		String packagePath = ClassUtils.convertClassNameToResourcePath(basePackage);
+		Set<String> unindexedRoots = new LinkedHashSet<String>();
+		Enumeration<URL> packages = classLoader.getResources(packagePath);
+		while (packages.hasMoreElements()) {
+			String root = getRoot(packages.nextElement(), packagePath);
+			if (root != null && !indexedRoots.contains(root)) {
+				unindexedRoots.add(root);
+			}
+		}
+		return unindexedRoots;
+	}
+
+	private static String getRoot(URL resource, String path) {
+		String url = resource.toString();
+		if (url.endsWith("/")) {
+			url = url.substring(0, url.length() - 1);
+		}
+		return url.endsWith(path) ? url.substring(0, url.length() - path.length()) : null;
+	}
+
+	static Set<String> read(URL index) throws IOException {
+		Set<String> classNames = new LinkedHashSet<String>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					classNames.add(line);
+				}
+			}
+		}
+		return classNames;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.mapping;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the {@link EntityIndex} of the types annotated with {@link Document} or
+ * {@link org.springframework.data.annotation.Persistent}, directly or through composed annotations, like the entity
+ * scan does. It is not registered automatically, add it to the annotation processors of the compiler to use it, e.g.
+ * {@code -processor org.springframework.data.aerospike.mapping.EntityIndexProcessor}.
+ */
+@SupportedAnnotationTypes("*")
+public class EntityIndexProcessor extends AbstractProcessor {
+
+	private static final Set<String> ENTITY_ANNOTATIONS = new HashSet<String>(Arrays.asList(
+			"org.springframework.data.aerospike.mapping.Document", "org.springframework.data.annotation.Persistent"));
+
+	private final Set<String> classNames = new TreeSet<String>();
+	private boolean previousIndexMerged;
+	private boolean previousIndexExists;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (!previousIndexMerged) {
+			mergePreviousIndex();
+			previousIndexMerged = true;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			addEntities(element);
+		}
+
+		if (roundEnv.processingOver() && (!classNames.isEmpty() || previousIndexExists)) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	/**
+	 * Keeps the types of the index written by a previous compilation that still exist and are still entities, an
+	 * incremental compilation only processes the changed sources.
+	 */
+	private void mergePreviousIndex() {
+		Set<String> previousClassNames;
+		try {
+			FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+					EntityIndex.INDEX_LOCATION);
+			previousClassNames = EntityIndex.read(index.toUri().toURL());
+			previousIndexExists = true;
+		} catch (IOException | IllegalArgumentException e) {
+			// no previous index
+			return;
+		}
+		Elements elements = processingEnv.getElementUtils();
+		for (String className : previousClassNames) {
+			TypeElement element = elements.getTypeElement(className.replace('$', '.'));
+			if (element != null && isIndexable(element) && isEntity(element)) {
+				classNames.add(className);
+			}
+		}
+	}
+
+	private void addEntities(Element element) {
+		if (!(element instanceof TypeElement)) {
+			return;
+		}
+		if (isIndexable(element) && isEntity(element)) {
+			classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+		}
+		for (Element enclosed : element.getEnclosedElements()) {
+			addEntities(enclosed);
+		}
+	}
+
+	/**
+	 * Whether the given type is annotated with an entity annotation, inherited ones included, walking the
+	 * meta-annotations of its annotations.
+	 */
+	private boolean isEntity(Element element) {
+		return isAnnotated(processingEnv.getElementUtils().getAllAnnotationMirrors(element), new HashSet<String>());
+	}
+
+	private static boolean isAnnotated(List<? extends AnnotationMirror> annotations, Set<String> visited) {
+		for (AnnotationMirror annotation : annotations) {
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			String name = annotationType.getQualifiedName().toString();
+			if (ENTITY_ANNOTATIONS.contains(name)) {
+				return true;
+			}
+			if (!name.startsWith("java.lang.annotation.") && visited.add(name)
+					&& isAnnotated(annotationType.getAnnotationMirrors(), visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isIndexable(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			return false;
+		}
+		NestingKind nestingKind = ((TypeElement) element).getNestingKind();
+		return nestingKind == NestingKind.TOP_LEVEL
+				|| nestingKind == NestingKind.MEMBER && element.getModifiers().contains(Modifier.STATIC);
+	}
+
+	private void writeIndex() {
+		try {
+			FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					EntityIndex.INDEX_LOCATION);
+			try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+				for (String className : classNames) {
+					writer.write(className);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Failed to write " + EntityIndex.INDEX_LOCATION + ": " + e.getMessage());
+		}
+	}
+}
@@ -4,17 +4,27 @@
 package org.springframework.data.aerospike.repository.query;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+import org.slf4j.MDC;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.core.SlowOperationLogger;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.keyvalue.core.IterableConverter;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.EvaluationContext;
@@ -34,9 +44,11 @@ public class AerospikePartTreeQuery implements RepositoryQuery {
 	private final QueryMethod queryMethod;
 	private final AerospikeOperations aerospikeOperations;
 	private final Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
+	private final MappingContext<? extends AerospikePersistentEntity<?>, AerospikePersistentProperty> mappingContext;
 
 	private Query<?> query;
 
+	@SuppressWarnings("unchecked")
 	public AerospikePartTreeQuery(QueryMethod queryMethod, EvaluationContextProvider evalContextProvider,
 			AerospikeOperations aerospikeOperations, Class<? extends AbstractQueryCreator<?, ?>> queryCreator) {
 
@@ -44,6 +56,8 @@ public class AerospikePartTreeQuery implements RepositoryQuery {
 		this.aerospikeOperations = aerospikeOperations;
 		this.evaluationContextProvider = evalContextProvider;
 		this.queryCreator = queryCreator;
+		this.mappingContext = (MappingContext<? extends AerospikePersistentEntity<?>, AerospikePersistentProperty>) aerospikeOperations
+				.getMappingContext();
 	}
 	
 	/* (non-Javadoc)
@@ -57,10 +71,28 @@ public class AerospikePartTreeQuery implements RepositoryQuery {
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public Object execute(Object[] parameters) {
-		Query<?> query = prepareQuery(parameters);
+		String outerMethod = MDC.get(SlowOperationLogger.REPOSITORY_METHOD);
+		MDC.put(SlowOperationLogger.REPOSITORY_METHOD, queryMethod.toString());
+		try {
+			return doExecute(parameters);
+		} finally {
+			if (outerMethod == null) {
+				MDC.remove(SlowOperationLogger.REPOSITORY_METHOD);
+			} else {
+				MDC.put(SlowOperationLogger.REPOSITORY_METHOD, outerMethod);
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object doExecute(Object[] parameters) {
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+		ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
+		Query<?> query = prepareQuery(parameters, accessor);
+		Class<?> type = queryMethod.getEntityInformation().getJavaType();
+		Collection<String> binNames = getBinNamesToRead(processor.getReturnedType());
 
 		if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
 
@@ -68,35 +100,67 @@ public class AerospikePartTreeQuery implements RepositoryQuery {
 			query.setOffset(page.getOffset());
 			query.setRows(page.getPageSize());
 
-			Iterable<?> result = this.aerospikeOperations.find(query, queryMethod.getEntityInformation().getJavaType());
+			Iterable<?> result = find(query, type, binNames);
 
-			long count = queryMethod.isSliceQuery() ? 0 : aerospikeOperations.count(query, queryMethod.getEntityInformation()
-					.getJavaType());
+			long count = queryMethod.isSliceQuery() ? 0 : aerospikeOperations.count(query, type);
 
-			return new PageImpl(IterableConverter.toList(result), page, count);
+			return processor.processResult(new PageImpl(IterableConverter.toList(result), page, count));
 
 		} else if (queryMethod.isCollectionQuery()) {
 
-			return this.aerospikeOperations.find(query, queryMethod.getEntityInformation().getJavaType());
+			return processor.processResult(find(query, type, binNames));
 
 		} else if (queryMethod.isQueryForEntity()) {
 
-			Iterable<?> result = this.aerospikeOperations.find(query, queryMethod.getEntityInformation().getJavaType());
-			return result.iterator().hasNext() ? result.iterator().next() : null;
+			Iterable<?> result = find(query, type, binNames);
+			return processor.processResult(result.iterator().hasNext() ? result.iterator().next() : null);
 
 		}
 
 		throw new UnsupportedOperationException("Query method not supported.");
 	}
 
+	private Iterable<?> find(Query<?> query, Class<?> type, Collection<String> binNames) {
+		return binNames == null ? aerospikeOperations.find(query, type) : aerospikeOperations.find(query, type, binNames);
+	}
+
+	/**
+	 * Resolves the bins backing the properties of a closed projection.
+	 *
+	 * @return {@literal null} if all bins have to be read.
+	 */
+	private Collection<String> getBinNamesToRead(ReturnedType returnedType) {
+		if (!returnedType.isProjecting()) {
+			return null;
+		}
+
+		List<String> inputProperties = returnedType.getInputProperties();
+		if (inputProperties.isEmpty()) {
+			// open projection, any property might be accessed
+			return null;
+		}
+
+		AerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(returnedType.getDomainType());
+		List<String> binNames = new ArrayList<String>(inputProperties.size());
+		for (String propertyName : inputProperties) {
+			AerospikePersistentProperty property = entity.getPersistentProperty(propertyName);
+			if (property == null) {
+				return null;
+			}
+			if (!property.isIdProperty() && !property.isVersionProperty() && !property.isExpirationProperty()) {
+				binNames.add(property.getFieldName());
+			}
+		}
+		return binNames;
+	}
+
 	/**
 	 * @param parameters
+	 * @param accessor
 	 * @return
 	 */
 	@SuppressWarnings("rawtypes")
-	private Query<?> prepareQuery(Object[] parameters) {
-		ParametersParameterAccessor accessor = new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-
+	private Query<?> prepareQuery(Object[] parameters, ParametersParameterAccessor accessor) {
 		this.query = createQuery(accessor);
 
 		Criteria criteria = (Criteria) query.getCritieria();
@@ -32,6 +32,7 @@ public class Criteria implements CriteriaDefinition {
 	private List<Criteria> criteriaChain;
 	private LinkedHashMap<String, Object> criteria = new LinkedHashMap<String, Object>();
 	private Object isValue = NOT_SET;
+	private List<Criteria> orCriteria;
 
 	public Criteria(String key) {
 		this.criteriaChain = new ArrayList<Criteria>();
@@ -228,13 +229,59 @@ public class Criteria implements CriteriaDefinition {
 	}
 
 	/**
-	 * @param base
-	 * @param criteria2
+	 * Creates a disjunction of the given criteria. Each given criteria may itself be a chain of criteria combined with
+	 * 'and', nested disjunctions are flattened.
+	 *
+	 * @param criteria must not be {@literal null} or contain {@literal null} elements.
 	 * @return
 	 */
 	public Criteria orOperator(Criteria... criteria) {
-		// TODO Auto-generated method stub
-		return null;
+		List<Criteria> disjuncts = new ArrayList<Criteria>();
+		for (Criteria c : criteria) {
+			if (c == null) {
+				throw new InvalidAerospikeDataAccessApiUsageException(
+						"Invalid query: unsupported criteria used with 'or'");
+			}
+			if (c.isOrOperator()) {
+				disjuncts.addAll(c.getOrCriteria());
+			}
+			else {
+				disjuncts.add(c);
+			}
+		}
+
+		Qualifier[] qualifiers = new Qualifier[disjuncts.size()];
+		for (int i = 0; i < qualifiers.length; i++) {
+			qualifiers[i] = asConjunction(disjuncts.get(i).getCriteriaObject());
+		}
+
+		this.orCriteria = disjuncts;
+		this.criteria.put(Qualifier.FilterOperation.OR.name(),
+				new Qualifier(Qualifier.FilterOperation.OR, qualifiers));
+		return this;
+	}
+
+	/**
+	 * @return whether this criteria is a disjunction created by {@link #orOperator(Criteria...)}
+	 */
+	public boolean isOrOperator() {
+		return this.orCriteria != null;
+	}
+
+	/**
+	 * @return the criteria combined by {@link #orOperator(Criteria...)}, {@literal null} if this criteria is not a
+	 * disjunction
+	 */
+	public List<Criteria> getOrCriteria() {
+		return orCriteria;
+	}
+
+	private static Qualifier asConjunction(List<Qualifier> qualifiers) {
+		if (qualifiers.size() == 1) {
+			return qualifiers.get(0);
+		}
+		return new Qualifier(Qualifier.FilterOperation.AND,
+				qualifiers.toArray(new Qualifier[qualifiers.size()]));
 	}
 
 	/**
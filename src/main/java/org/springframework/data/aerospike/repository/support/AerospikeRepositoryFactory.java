@@ -67,6 +67,7 @@ public class AerospikeRepositoryFactory extends RepositoryFactorySupport {
 		this.queryCreator = queryCreator;
 		this.aerospikeOperations = aerospikeOperations;
 		this.context = (MappingContext<? extends AerospikePersistentEntity<?>, AerospikePersistentProperty>) aerospikeOperations.getMappingContext();
+		addRepositoryProxyPostProcessor(new ReadPolicyRepositoryProxyPostProcessor());
 
 	}
 
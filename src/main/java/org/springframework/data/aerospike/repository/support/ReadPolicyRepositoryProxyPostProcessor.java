@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.aerospike.annotation.ReadPolicy;
+import org.springframework.data.aerospike.core.ReadPolicyHolder;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Binds the {@link ReadPolicy} of the invoked repository method to the {@link ReadPolicyHolder} while the method is
+ * executed. Inherited methods like {@code findOne} can be annotated by redeclaring them in the repository interface.
+ * Query methods are executed by queries, which the annotation does not apply to, so annotating them is reported.
+ */
+@Slf4j
+class ReadPolicyRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+		for (Method method : repositoryInformation.getQueryMethods()) {
+			if (AnnotationUtils.findAnnotation(method, ReadPolicy.class) != null) {
+				log.warn("@ReadPolicy on query method {} has no effect, it only applies to reads of single records",
+						method);
+			}
+		}
+		factory.addAdvice(new ReadPolicyInterceptor(repositoryInformation.getRepositoryInterface()));
+	}
+
+	static class ReadPolicyInterceptor implements MethodInterceptor {
+
+		private final Class<?> repositoryInterface;
+		private final ConcurrentMap<Method, Optional<ReadPolicy>> readPolicies = new ConcurrentHashMap<Method, Optional<ReadPolicy>>();
+
+		ReadPolicyInterceptor(Class<?> repositoryInterface) {
+			this.repositoryInterface = repositoryInterface;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			ReadPolicy readPolicy = readPolicies.computeIfAbsent(invocation.getMethod(), this::findReadPolicy).orElse(null);
+			if (readPolicy == null) {
+				return invocation.proceed();
+			}
+
+			ReadPolicy previous = ReadPolicyHolder.set(readPolicy);
+			try {
+				return invocation.proceed();
+			} finally {
+				ReadPolicyHolder.set(previous);
+			}
+		}
+
+		private Optional<ReadPolicy> findReadPolicy(Method method) {
+			Method mostSpecificMethod = ClassUtils.getMostSpecificMethod(method, repositoryInterface);
+			ReadPolicy readPolicy = AnnotationUtils.findAnnotation(mostSpecificMethod, ReadPolicy.class);
+			return Optional.ofNullable(readPolicy != null ? readPolicy : AnnotationUtils.findAnnotation(method, ReadPolicy.class));
+		}
+	}
+}
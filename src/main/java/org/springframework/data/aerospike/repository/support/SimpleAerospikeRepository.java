@@ -133,10 +133,9 @@ public class SimpleAerospikeRepository<T, ID extends Serializable> implements Ae
 	 */
 	@Override
 	public void delete(Iterable<? extends T> entities) {
-		for (T entity : entities) {
-			delete(entity);
-		}
-		
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+
+		operations.deleteAll(entities);
 	}
 
 	/* (non-Javadoc)
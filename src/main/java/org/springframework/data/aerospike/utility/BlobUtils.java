@@ -0,0 +1,31 @@
+package org.springframework.data.aerospike.utility;
+
+import com.aerospike.client.Value;
+
+import java.nio.ByteBuffer;
+
+public final class BlobUtils {
+
+    private BlobUtils() {
+    }
+
+    /**
+     * Returns a value of the remaining bytes of the buffer. Heap buffers are referenced without copying, direct
+     * buffers are copied once. The position of the buffer is not changed.
+     */
+    public static Value toValue(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return Value.get(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return Value.get(bytes);
+    }
+
+    /**
+     * Wraps the given bytes without copying, returns {@literal null} for {@literal null} bytes.
+     */
+    public static ByteBuffer toByteBuffer(byte[] bytes) {
+        return bytes == null ? null : ByteBuffer.wrap(bytes);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.*;
 import org.joda.time.DateTime;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.aerospike.annotation.Expiration;
+import org.springframework.data.aerospike.annotation.ReadPolicy;
 import org.springframework.data.aerospike.convert.AerospikeReadData;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.mapping.Document;
@@ -65,6 +66,39 @@ public class SampleClasses {
 
 	}
 
+	@Document
+	@Data
+	@NoArgsConstructor
+	public static class DocumentWithMutableFields {
+		@Id
+		private String id;
+		private int intField;
+		private List<String> listField;
+	}
+
+	@Document
+	@NoArgsConstructor
+	public static class DocumentWithFinalGetter {
+		@Id
+		private String id;
+		private int intField;
+
+		public final int getIntField() {
+			return intField;
+		}
+	}
+
+	@Document
+	@Data
+	public static class DocumentWithPrimitiveArrays {
+		@Id
+		final long id;
+		final long[] longs;
+		final int[] ints;
+		final double[] doubles;
+		final List<Long> longList;
+	}
+
 	@Document
 	@Data
 	public static class MapWithSimpleValue {
@@ -341,6 +375,25 @@ public class SampleClasses {
 		}
 	}
 
+	@Data
+	@Document(namespace = "hot")
+	public static class DocumentWithNamespace {
+		@Id
+		private String id;
+	}
+
+	@Data
+	@AllArgsConstructor
+	@Document(collection = "read-policy-set")
+	@ReadPolicy(totalTimeout = 5000)
+	public static class DocumentWithReadPolicy {
+
+		@Id
+		private String id;
+
+		private int field;
+	}
+
 	@Data
 	@AllArgsConstructor
 	@Document(collection = "expiration-set", expiration = 1, touchOnRead = true)
@@ -0,0 +1,48 @@
+package org.springframework.data.aerospike.convert;
+
+import org.junit.Test;
+import org.springframework.data.aerospike.SampleClasses.DocumentWithExpirationAndExpression;
+import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
+import org.springframework.data.aerospike.SampleClasses.SimpleClass;
+import org.springframework.data.aerospike.SampleClasses.User;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
+import org.springframework.data.convert.EntityInstantiators;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AerospikeMappingWarmUpTest {
+
+	@Test
+	public void shouldWarmUpAllEntitiesAndReportTimings() {
+		AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+		mappingContext.setDefaultNameSpace("namespace");
+		mappingContext.setInitialEntitySet(new HashSet<Class<?>>(asList(SimpleClass.class, User.class,
+				DocumentWithExpirationAndExpression.class)));
+		mappingContext.afterPropertiesSet();
+		CustomConversions conversions = new CustomConversions(Collections.emptyList(), AerospikeSimpleTypes.HOLDER);
+
+		Map<Class<?>, Long> timings = new AerospikeMappingWarmUp(mappingContext, conversions).warmUp();
+
+		assertThat(timings).containsKeys(SimpleClass.class, User.class, DocumentWithExpirationAndExpression.class);
+	}
+
+	@Test
+	public void shouldInstantiateEntitiesWithPrimitiveConstructorParameters() {
+		AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+		mappingContext.setDefaultNameSpace("namespace");
+		mappingContext.setInitialEntitySet(Collections.singleton(DocumentWithTouchOnRead.class));
+		mappingContext.afterPropertiesSet();
+		CustomConversions conversions = new CustomConversions(Collections.emptyList(), AerospikeSimpleTypes.HOLDER);
+
+		Map<Class<?>, Long> timings = new AerospikeMappingWarmUp(mappingContext, conversions, new EntityInstantiators())
+				.warmUp();
+
+		assertThat(timings).containsKeys(DocumentWithTouchOnRead.class);
+	}
+}
@@ -0,0 +1,43 @@
+package org.springframework.data.aerospike.convert;
+
+import org.junit.Test;
+import org.springframework.data.aerospike.SampleClasses.ComplexId;
+import org.springframework.data.aerospike.SampleClasses.ComplexIdToStringConverter;
+import org.springframework.data.aerospike.SampleClasses.SimpleClass;
+import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CustomConversionsTest {
+
+	private final CustomConversions conversions = new CustomConversions(asList(new ComplexIdToStringConverter()),
+			AerospikeSimpleTypes.HOLDER);
+
+	@Test
+	public void shouldReturnSameWriteTargetOnRepeatedLookups() {
+		for (int i = 0; i < 2; i++) {
+			assertThat(conversions.getCustomWriteTarget(ComplexId.class)).isEqualTo(String.class);
+			assertThat(conversions.getCustomWriteTarget(ComplexId.class, String.class)).isEqualTo(String.class);
+			assertThat(conversions.getCustomWriteTarget(TimeUnit.class)).isEqualTo(String.class);
+		}
+	}
+
+	@Test
+	public void shouldReturnNoWriteTargetOnRepeatedLookups() {
+		for (int i = 0; i < 2; i++) {
+			assertThat(conversions.getCustomWriteTarget(SimpleClass.class)).isNull();
+			assertThat(conversions.hasCustomWriteTarget(ComplexId.class, AerospikeWriteData.class)).isFalse();
+		}
+	}
+
+	@Test
+	public void shouldDetectSimpleTypesOnRepeatedLookups() {
+		for (int i = 0; i < 2; i++) {
+			assertThat(conversions.isSimpleType(String.class)).isTrue();
+			assertThat(conversions.isSimpleType(SimpleClass.class)).isFalse();
+		}
+	}
+}
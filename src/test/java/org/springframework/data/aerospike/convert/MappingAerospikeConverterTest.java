@@ -9,10 +9,12 @@ import org.joda.time.DateTime;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.springframework.cglib.proxy.Factory;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.aerospike.SampleClasses.*;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
 import java.time.ZoneOffset;
@@ -89,6 +91,112 @@ public class MappingAerospikeConverterTest {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	public void shouldWritePrimitiveArraysAsLists() throws Exception {
+		DocumentWithPrimitiveArrays object = new DocumentWithPrimitiveArrays(1L, new long[]{1L, 2L}, new int[]{3, 4},
+				new double[]{0.5}, list(5L, null));
+		AerospikeWriteData forWrite = AerospikeWriteData.forWrite();
+
+		converter.write(object, forWrite);
+
+		assertThat(forWrite.getBins()).containsOnly(
+				new Bin("longs", list(1L, 2L)),
+				new Bin("ints", list(3, 4)),
+				new Bin("doubles", list(0.5)),
+				new Bin("longList", list(5L, null)),
+				new Bin("@user_key", "1"),
+				new Bin("@_class", DocumentWithPrimitiveArrays.class.getName())
+		);
+	}
+
+	@Test
+	public void shouldReadPrimitiveArraysFromLists() throws Exception {
+		Map<String, Object> bins = of(
+				"longs", list(1L, 2L),
+				"ints", list(3L, 4L),
+				"doubles", list(0.5),
+				"longList", list(5L, null),
+				"@user_key", "1"
+		);
+		AerospikeReadData forRead = AerospikeReadData.forRead(new Key(NAMESPACE, "DocumentWithPrimitiveArrays", 1L), record(bins));
+
+		DocumentWithPrimitiveArrays actual = converter.read(DocumentWithPrimitiveArrays.class, forRead);
+
+		assertThat(actual).isEqualTo(new DocumentWithPrimitiveArrays(1L, new long[]{1L, 2L}, new int[]{3, 4},
+				new double[]{0.5}, list(5L, null)));
+	}
+
+	@Test
+	public void shouldReadPropertiesOnFirstAccessWithLazyReads() throws Exception {
+		MappingAerospikeConverter converter = getMappingAerospikeConverter();
+		converter.setLazyReads(true);
+		Map<String, Object> bins = of(
+				"intField", 5L,
+				"listField", list("a", "b")
+		);
+		AerospikeReadData forRead = AerospikeReadData.forRead(new Key(NAMESPACE, "DocumentWithMutableFields", "id1"), record(bins));
+
+		DocumentWithMutableFields actual = converter.read(DocumentWithMutableFields.class, forRead);
+
+		assertThat(actual).isInstanceOf(LazilyReadEntity.class);
+		assertThat(actual.getId()).isEqualTo("id1");
+		assertThat(actual.getIntField()).isEqualTo(5);
+		actual.setListField(list("c"));
+
+		AerospikeWriteData forWrite = AerospikeWriteData.forWrite();
+		converter.write(actual, forWrite);
+
+		assertThat(forWrite.getBins()).containsOnly(
+				new Bin("intField", 5),
+				new Bin("listField", list("c")),
+				new Bin("@user_key", "id1"),
+				new Bin("@_class", DocumentWithMutableFields.class.getName())
+		);
+	}
+
+	@Test
+	public void shouldWriteKeyWithoutReadingPropertiesWithLazyReads() throws Exception {
+		MappingAerospikeConverter converter = getMappingAerospikeConverter();
+		converter.setLazyReads(true);
+		AerospikeReadData forRead = AerospikeReadData.forRead(new Key(NAMESPACE, "DocumentWithMutableFields", "id1"),
+				record(of("intField", 5L)));
+		DocumentWithMutableFields actual = converter.read(DocumentWithMutableFields.class, forRead);
+
+		AerospikeWriteData forWrite = AerospikeWriteData.forWrite();
+		converter.writeKey(actual, forWrite);
+
+		assertThatKeyIsEqualTo(forWrite.getKey(), NAMESPACE, "DocumentWithMutableFields", "id1");
+		assertThat(ReflectionTestUtils.getField(actual, "intField")).isEqualTo(0);
+		assertThat(actual.getIntField()).isEqualTo(5);
+	}
+
+	@Test
+	public void shouldNotExposeProxyCallbacksWithLazyReads() throws Exception {
+		MappingAerospikeConverter converter = getMappingAerospikeConverter();
+		converter.setLazyReads(true);
+		AerospikeReadData forRead = AerospikeReadData.forRead(new Key(NAMESPACE, "DocumentWithMutableFields", "id1"),
+				record(of("intField", 5L)));
+
+		DocumentWithMutableFields actual = converter.read(DocumentWithMutableFields.class, forRead);
+
+		assertThat(actual).isInstanceOf(LazilyReadEntity.class);
+		assertThat(actual).isNotInstanceOf(Factory.class);
+		assertThat(actual.getIntField()).isEqualTo(5);
+	}
+
+	@Test
+	public void shouldReadEntityWithFinalGetterEagerlyWithLazyReads() throws Exception {
+		MappingAerospikeConverter converter = getMappingAerospikeConverter();
+		converter.setLazyReads(true);
+		AerospikeReadData forRead = AerospikeReadData.forRead(new Key(NAMESPACE, "DocumentWithFinalGetter", "id1"),
+				record(of("intField", 5L)));
+
+		DocumentWithFinalGetter actual = converter.read(DocumentWithFinalGetter.class, forRead);
+
+		assertThat(actual).isNotInstanceOf(LazilyReadEntity.class);
+		assertThat(actual.getIntField()).isEqualTo(5);
+	}
+
 	@Test
 	public void shouldWriteMapWithSimpleValue() throws Exception {
 		Map<String, String> map = of("key1", "value1", "key2", "value2", "key3", null);
@@ -0,0 +1,28 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.BaseIntegrationTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AerospikeClusterStatsTest extends BaseIntegrationTests {
+
+	@Autowired
+	AerospikeClusterStats clusterStats;
+
+	@Test
+	public void sample_shouldReturnStateOfAllNodes() {
+		AerospikeClusterStats.Snapshot snapshot = clusterStats.sample();
+
+		assertThat(snapshot.getNodes()).hasSize(client.getNodes().length);
+		assertThat(snapshot.isHealthy()).isTrue();
+		assertThat(snapshot.getTimestamp()).isPositive();
+		for (AerospikeClusterStats.NodeSnapshot node : snapshot.getNodes()) {
+			assertThat(node.getError()).isNull();
+			assertThat(node.getPartitionGeneration()).isGreaterThanOrEqualTo(0);
+			assertThat(node.getNamespaceStatistics()).isNotEmpty();
+		}
+		assertThat(clusterStats.getSnapshot()).isSameAs(snapshot);
+	}
+}
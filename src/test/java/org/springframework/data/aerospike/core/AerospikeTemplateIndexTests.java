@@ -12,6 +12,8 @@ import org.springframework.data.aerospike.repository.query.Criteria;
 import org.springframework.data.aerospike.repository.query.Query;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -88,6 +90,30 @@ public class AerospikeTemplateIndexTests extends BaseIntegrationTests {
 		assertThat(it).containsOnly(p4);
 	}
 
+	@Test
+	public void find_shouldReportIndexUsedByQueryToOperationListener() {
+		createIndexIfNotExists(Person.class, "Person_age_index", "age", IndexType.NUMERIC);
+		Person p1 = new Person(nextId(), "ZLastName", 25);
+		Person p2 = new Person(nextId(), "QLastName", 35);
+		template.insertAll(asList(p1, p2));
+
+		List<String> plans = new ArrayList<>();
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onQuery(String namespace, String setName, String plan, int resultCount, long durationNanos) {
+				plans.add(plan + ":" + resultCount);
+			}
+		});
+		try {
+			template.find(new Query(Criteria.where("age").is(35, "age")), Person.class);
+		} finally {
+			template.setOperationListener(null);
+		}
+
+		assertThat(plans).hasSize(1);
+		assertThat(plans.get(0)).startsWith("index on age").endsWith(":1");
+	}
+
 	@Test
 	public void countsDocumentsCorrectly() {
 		createIndexIfNotExists(Person.class, "Person_firstName_index", "firstName", IndexType.STRING);
@@ -0,0 +1,93 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.BaseIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.DocumentWithNamespace;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class AerospikeTemplateNamespaceTests extends BaseIntegrationTests {
+
+	@Autowired
+	private MappingAerospikeConverter converter;
+	@Autowired
+	private AerospikeMappingContext mappingContext;
+
+	private AerospikeClient spiedClient;
+	private AerospikeTemplate spiedTemplate;
+
+	@Before
+	public void setUp() {
+		spiedClient = spy(client);
+		spiedTemplate = new AerospikeTemplate(spiedClient, getNameSpace(), converter, mappingContext,
+				new DefaultAerospikeExceptionTranslator());
+	}
+
+	@Test
+	public void findById_shouldUseNamespaceOfEntity() {
+		catchThrowable(() -> spiedTemplate.findById(nextId(), DocumentWithNamespace.class));
+
+		ArgumentCaptor<Key> key = ArgumentCaptor.forClass(Key.class);
+		verify(spiedClient).get(any(Policy.class), key.capture());
+		assertThat(key.getValue().namespace).isEqualTo("hot");
+	}
+
+	@Test
+	public void findAll_shouldQueryNamespaceOfEntity() {
+		List<String> namespaces = Collections.synchronizedList(new ArrayList<>());
+		spiedTemplate.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+				namespaces.add(namespace);
+			}
+		});
+
+		catchThrowable(() -> spiedTemplate.findAll(DocumentWithNamespace.class));
+
+		assertThat(namespaces).containsOnly("hot");
+	}
+
+	@Test
+	public void findById_shouldUseReadPolicyOfNamespace() {
+		Policy policy = new Policy(client.readPolicyDefault);
+		policy.totalTimeout = 4321;
+		spiedTemplate.setReadPolicy(getNameSpace(), policy);
+
+		spiedTemplate.findById(nextId(), Person.class);
+
+		verify(spiedClient).get(same(policy), any(Key.class));
+	}
+
+	@Test
+	public void save_shouldUseWritePolicyOfNamespace() {
+		WritePolicy policy = new WritePolicy(client.writePolicyDefault);
+		policy.totalTimeout = 4321;
+		spiedTemplate.setWritePolicy(getNameSpace(), policy);
+
+		spiedTemplate.save(new Person(nextId(), "policy", 1));
+
+		ArgumentCaptor<WritePolicy> writePolicy = ArgumentCaptor.forClass(WritePolicy.class);
+		verify(spiedClient).put(writePolicy.capture(), any(Key.class), Matchers.<Bin>anyVararg());
+		assertThat(writePolicy.getValue().totalTimeout).isEqualTo(4321);
+	}
+}
@@ -12,22 +12,38 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.aerospike.AsyncUtils;
 import org.springframework.data.aerospike.BaseIntegrationTests;
+import org.springframework.data.aerospike.DeleteAllFailureException;
 import org.springframework.data.aerospike.SampleClasses.CustomCollectionClass;
+import org.springframework.data.aerospike.SampleClasses.DocumentWithReadPolicy;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnReadAndExpirationProperty;
 import org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
 import static org.springframework.data.aerospike.SampleClasses.EXPIRATION_ONE_MINUTE;
 
 /**
@@ -42,6 +58,11 @@ public class AerospikeTemplateTests extends BaseIntegrationTests {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 
+	@Autowired
+	private MappingAerospikeConverter converter;
+	@Autowired
+	private AerospikeMappingContext mappingContext;
+
 	private String id;
 
 	@Before
@@ -278,6 +299,142 @@ public class AerospikeTemplateTests extends BaseIntegrationTests {
 		assertThat(person1).isEqualTo(person);
 	}
 
+	@Test
+	public void findByIdWithBinNames_shouldReadOnlyGivenBins() {
+		Person person = new Person(id, "Oliver", 25);
+		person.setEmailAddress("oliver@gmail.com");
+		template.insert(person);
+
+		Person actual = template.findById(id, Person.class, Collections.singletonList("firstName"));
+
+		assertThat(actual.getId()).isEqualTo(id);
+		assertThat(actual.getFirstName()).isEqualTo("Oliver");
+		assertThat(actual.getAge()).isZero();
+		assertThat(actual.getEmailAddress()).isNull();
+	}
+
+	@Test
+	public void updateWithFields_shouldWriteOnlyGivenFields() {
+		Person person = new Person(id, "Oliver", 25);
+		template.insert(person);
+		Key key = new Key(getNameSpace(), "Person", id);
+		client.put(null, key, new Bin("age", 30));
+
+		person.setFirstName("Dave");
+		person.setAge(40);
+		template.update(person, Collections.singletonList("firstName"));
+
+		Record record = client.get(null, key);
+		assertThat(record.getString("firstName")).isEqualTo("Dave");
+		assertThat(record.getInt("age")).isEqualTo(30);
+	}
+
+	@Test
+	public void updateWithDirtyTracking_shouldWriteOnlyChangedBins() {
+		List<String> operations = Collections.synchronizedList(new ArrayList<>());
+		template.setDirtyTrackingCapacity(100);
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long nanos) {
+				operations.add(operation);
+			}
+		});
+		try {
+			template.insert(new Person(id, "Oliver", 25));
+			Person person = template.findById(id, Person.class);
+
+			person.setFirstName("Dave");
+			operations.clear();
+			template.update(person);
+
+			assertThat(operations).containsExactly(AerospikeOperationListener.OPERATE);
+			Record record = client.get(null, new Key(getNameSpace(), "Person", id));
+			assertThat(record.getString("firstName")).isEqualTo("Dave");
+			assertThat(record.getInt("age")).isEqualTo(25);
+		} finally {
+			template.setDirtyTrackingCapacity(0);
+			template.setOperationListener(null);
+		}
+	}
+
+	@Test
+	public void saveWithDirtyTracking_shouldKeepBinsNotMappedByEntity() {
+		template.setDirtyTrackingCapacity(100);
+		try {
+			template.insert(new Person(id, "Oliver", 25));
+			Key key = new Key(getNameSpace(), "Person", id);
+			client.put(null, key, new Bin("legacy", "value"));
+			Person person = template.findById(id, Person.class);
+
+			person.setFirstName(null);
+			person.setAge(30);
+			template.save(person);
+
+			Record record = client.get(null, key);
+			assertThat(record.getString("legacy")).isEqualTo("value");
+			assertThat(record.bins).doesNotContainKey("firstName");
+			assertThat(record.getInt("age")).isEqualTo(30);
+		} finally {
+			template.setDirtyTrackingCapacity(0);
+		}
+	}
+
+	@Test
+	public void updateWithDirtyTracking_shouldWriteAllBinsIfRecordChangedSinceRead() {
+		template.setDirtyTrackingCapacity(100);
+		try {
+			template.insert(new Person(id, "Oliver", 25));
+			Person person = template.findById(id, Person.class);
+			Key key = new Key(getNameSpace(), "Person", id);
+			client.put(null, key, new Bin("age", 30));
+
+			person.setFirstName("Dave");
+			template.update(person);
+
+			Record record = client.get(null, key);
+			assertThat(record.getString("firstName")).isEqualTo("Dave");
+			assertThat(record.getInt("age")).isEqualTo(25);
+		} finally {
+			template.setDirtyTrackingCapacity(0);
+		}
+	}
+
+	@Test
+	public void operate_shouldApplyAllOperationsAndReadRequestedBins() {
+		template.insert(new Person(id, "Oliver", 25));
+
+		Person result = template.operate(Person.class, id)
+				.add("age", 5)
+				.append("firstName", "-Dave")
+				.listAppend("list", "new")
+				.get("age", "firstName", "list")
+				.execute();
+
+		assertThat(result.getAge()).isEqualTo(30);
+		assertThat(result.getFirstName()).isEqualTo("Oliver-Dave");
+		assertThat(result.getList()).containsExactly("new");
+	}
+
+	@Test
+	public void putBlob_shouldWriteRemainingBytesAndGetBlobShouldReadThem() {
+		ByteBuffer blob = ByteBuffer.wrap(new byte[]{0, 1, 2, 3});
+		blob.position(1);
+
+		template.putBlob(Person.class, id, "thumbnail", blob);
+
+		assertThat(blob.position()).isEqualTo(1);
+		assertThat(template.getBlob(Person.class, id, "thumbnail")).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+		assertThat(template.getBlob(Person.class, nextId(), "thumbnail")).isNull();
+	}
+
+	@Test
+	public void getBlob_shouldFailIfBinHoldsNoBlob() {
+		template.insert(new Person(id, "Dave", 30));
+
+		expectedException.expect(DataRetrievalFailureException.class);
+		template.getBlob(Person.class, id, "firstName");
+	}
+
 	@Test
 	public void findbyIdFail() {
 		Person person = new Person("Person-01","Oliver");
@@ -599,6 +756,73 @@ public class AerospikeTemplateTests extends BaseIntegrationTests {
 		});
 	}
 
+	@Test
+	public void operationListener_shouldMeasureQueryUntilResultsAreRead() {
+		Person person = Person.builder().id(id).firstName("tya").emailAddress("gmail.com").build();
+		template.insert(person);
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+				events.add(operation + ":" + resultCode);
+			}
+
+			@Override
+			public void onConversion(String conversion, String setName, long durationNanos) {
+				events.add(conversion);
+			}
+		});
+		try {
+			template.findAll(Person.class);
+		} finally {
+			template.setOperationListener(null);
+		}
+
+		String query = AerospikeOperationListener.QUERY + ":" + ResultCode.OK;
+		assertThat(events).contains(AerospikeOperationListener.READ);
+		assertThat(events.indexOf(query)).isEqualTo(events.size() - 1);
+		assertThat(events.indexOf(query)).isEqualTo(events.lastIndexOf(query));
+	}
+
+	@Test
+	public void operationListener_shouldBeNotifiedAboutRequestsConversionsAndBatches() {
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+				events.add(operation + ":" + namespace + ":" + setName + ":" + resultCode);
+			}
+
+			@Override
+			public void onConversion(String conversion, String setName, long durationNanos) {
+				events.add(conversion + ":" + setName);
+			}
+
+			@Override
+			public void onBatch(String operation, String setName, int batchSize, int resultCount) {
+				events.add(operation + ":" + setName + ":" + batchSize + ":" + resultCount);
+			}
+		});
+		try {
+			Person person = Person.builder().id(id).firstName("tya").emailAddress("gmail.com").build();
+			template.insert(person);
+			template.findById(id, Person.class);
+			template.findByIds(Arrays.asList(id, nextId()), Person.class);
+		} finally {
+			template.setOperationListener(null);
+		}
+
+		String setName = template.getSetName(Person.class);
+		assertThat(events).containsExactly(
+				"write:" + setName,
+				"put:" + getNameSpace() + ":" + setName + ":" + ResultCode.OK,
+				"get:" + getNameSpace() + ":" + setName + ":" + ResultCode.OK,
+				"read:" + setName,
+				"batch-get:" + getNameSpace() + ":" + setName + ":" + ResultCode.OK,
+				"batch-get:" + setName + ":2:1",
+				"read:" + setName);
+	}
+
 	@Test
 	public void exists_shouldReturnTrueIfValueIsPresent() {
 		Person one = Person.builder().id(id).firstName("tya").emailAddress("gmail.com").build();
@@ -623,6 +847,116 @@ public class AerospikeTemplateTests extends BaseIntegrationTests {
 		assertThat(template.delete(one)).isFalse();
 	}
 
+	@Test
+	public void existsAll_shouldReturnExistenceOfEachId() {
+		Person one = Person.builder().id(nextId()).firstName("tya").emailAddress("gmail.com").build();
+		template.insert(one);
+		String absentId = nextId();
+
+		Map<String, Boolean> actual = template.existsAll(Arrays.asList(absentId, one.getId()), Person.class);
+
+		assertThat(actual).containsExactly(entry(absentId, false), entry(one.getId(), true));
+	}
+
+	@Test
+	public void deleteAll_shouldDeleteExistingAndReturnResultOfEachId() {
+		Person one = Person.builder().id(nextId()).firstName("tya").emailAddress("gmail.com").build();
+		template.insert(one);
+		String absentId = nextId();
+
+		Map<String, Boolean> actual = template.deleteAll(Arrays.asList(one.getId(), absentId), Person.class);
+
+		assertThat(actual).containsExactly(entry(one.getId(), true), entry(absentId, false));
+		assertThat(template.exists(one.getId(), Person.class)).isFalse();
+	}
+
+	@Test
+	public void existsAll_shouldSplitIntoBatchesOfMaxBatchSize() {
+		Person one = Person.builder().id(nextId()).firstName("one").emailAddress("gmail.com").build();
+		Person two = Person.builder().id(nextId()).firstName("two").emailAddress("gmail.com").build();
+		template.insert(one);
+		template.insert(two);
+		String absentId = nextId();
+		List<String> operations = Collections.synchronizedList(new ArrayList<>());
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long nanos) {
+				operations.add(operation);
+			}
+		});
+		template.setMaxBatchSize(2);
+		try {
+			Map<String, Boolean> actual = template.existsAll(Arrays.asList(one.getId(), absentId, two.getId()),
+					Person.class);
+
+			assertThat(actual).containsExactly(entry(one.getId(), true), entry(absentId, false), entry(two.getId(), true));
+			assertThat(operations).containsExactly(AerospikeOperationListener.BATCH_EXISTS,
+					AerospikeOperationListener.BATCH_EXISTS);
+		} finally {
+			template.setMaxBatchSize(0);
+			template.setOperationListener(null);
+		}
+	}
+
+	@Test
+	public void deleteAll_shouldReportFailuresWithResultsOfOtherIds() {
+		Person one = Person.builder().id(nextId()).firstName("one").emailAddress("gmail.com").build();
+		template.insert(one);
+		String failingId = nextId();
+		AerospikeClient spiedClient = spy(client);
+		doThrow(new AerospikeException(ResultCode.TIMEOUT))
+				.when(spiedClient).delete(any(WritePolicy.class), eq(new Key(getNameSpace(), "Person", failingId)));
+		AerospikeTemplate spiedTemplate = new AerospikeTemplate(spiedClient, getNameSpace(), converter, mappingContext,
+				new DefaultAerospikeExceptionTranslator());
+
+		Throwable thrown = catchThrowable(() -> spiedTemplate.deleteAll(Arrays.asList(failingId, one.getId()),
+				Person.class));
+
+		assertThat(thrown).isInstanceOf(DeleteAllFailureException.class);
+		DeleteAllFailureException failure = (DeleteAllFailureException) thrown;
+		assertThat(failure.getResults()).containsExactly(entry(one.getId(), true));
+		assertThat(failure.getFailures()).containsOnlyKeys(failingId);
+		assertThat(failure.getFailures().get(failingId)).isInstanceOf(QueryTimeoutException.class);
+		assertThat(template.exists(one.getId(), Person.class)).isFalse();
+	}
+
+	@Test
+	public void deleteAllDocuments_shouldDeleteEachFromSetOfItsOwnType() {
+		Person person = Person.builder().id(nextId()).firstName("one").emailAddress("gmail.com").build();
+		DocumentWithTouchOnRead document = new DocumentWithTouchOnRead(nextId());
+		template.insert(person);
+		template.insert(document);
+
+		Map<Object, Boolean> actual = template.deleteAll(Arrays.asList(person, document));
+
+		assertThat(actual).containsExactly(entry(person.getId(), true), entry(document.getId(), true));
+		assertThat(template.exists(person.getId(), Person.class)).isFalse();
+		assertThat(template.exists(document.getId(), DocumentWithTouchOnRead.class)).isFalse();
+	}
+
+	@Test
+	public void deleteAll_shouldDeleteConcurrentlyOnBatchExecutor() {
+		Person one = Person.builder().id(nextId()).firstName("one").emailAddress("gmail.com").build();
+		Person two = Person.builder().id(nextId()).firstName("two").emailAddress("gmail.com").build();
+		template.insert(one);
+		template.insert(two);
+		String absentId = nextId();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		template.setBatchExecutor(executor);
+		try {
+			Map<String, Boolean> actual = template.deleteAll(Arrays.asList(one.getId(), absentId, two.getId()),
+					Person.class);
+
+			assertThat(actual).containsExactly(entry(one.getId(), true), entry(absentId, false), entry(two.getId(), true));
+			assertThat(template.exists(one.getId(), Person.class)).isFalse();
+			assertThat(template.exists(two.getId(), Person.class)).isFalse();
+		} finally {
+			template.setBatchExecutor(null);
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	public void findByIds_shouldFindExisting() {
 		Person firstPerson = Person.builder().id(nextId()).firstName("first").emailAddress("gmail.com").build();
@@ -637,6 +971,105 @@ public class AerospikeTemplateTests extends BaseIntegrationTests {
 		assertThat(actual).containsExactly(firstPerson, secondPerson);
 	}
 
+	@Test
+	public void findByIds_shouldKeepOrderAndSkipDuplicatesWhenSplitIntoParallelBatches() {
+		Person firstPerson = Person.builder().id(nextId()).firstName("first").emailAddress("gmail.com").build();
+		Person secondPerson = Person.builder().id(nextId()).firstName("second").emailAddress("gmail.com").build();
+		Person thirdPerson = Person.builder().id(nextId()).firstName("third").emailAddress("gmail.com").build();
+		template.save(firstPerson);
+		template.save(secondPerson);
+		template.save(thirdPerson);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		template.setMaxBatchSize(2);
+		template.setBatchExecutor(executor);
+		try {
+			List<String> ids = Arrays.asList(thirdPerson.getId(), nextId(), firstPerson.getId(), thirdPerson.getId(),
+					secondPerson.getId());
+
+			List<Person> actual = template.findByIds(ids, Person.class);
+			assertThat(actual).containsExactly(thirdPerson, firstPerson, secondPerson);
+		} finally {
+			template.setMaxBatchSize(0);
+			template.setBatchExecutor(null);
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void findById_shouldBatchOnlyReadsWithoutReadPolicyOfTheirOwnWhenReadBatchingEnabled() {
+		Person person = Person.builder().id(id).firstName("first").emailAddress("gmail.com").build();
+		template.save(person);
+		DocumentWithReadPolicy document = new DocumentWithReadPolicy(nextId(), 1);
+		template.save(document);
+		List<String> operations = Collections.synchronizedList(new ArrayList<>());
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+				operations.add(operation);
+			}
+		});
+		template.setReadBatching(100, 10);
+		template.setPartialBatchResults(true);
+		try {
+			assertThat(template.findById(id, Person.class)).isEqualTo(person);
+			assertThat(template.findById(document.getId(), DocumentWithReadPolicy.class)).isEqualTo(document);
+		} finally {
+			template.setReadBatching(0, 1);
+			template.setPartialBatchResults(false);
+			template.setOperationListener(null);
+		}
+
+		assertThat(operations).containsExactly(AerospikeOperationListener.BATCH_GET, AerospikeOperationListener.GET);
+	}
+
+	@Test
+	public void findById_shouldReturnSameInstanceWithinUnitOfWorkWhenIdentityMapEnabled() {
+		Person person = Person.builder().id(id).firstName("first").emailAddress("gmail.com").build();
+		template.save(person);
+
+		template.setIdentityMapEnabled(true);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			Person found = template.findById(id, Person.class);
+			client.put(null, new Key(getNameSpace(), "Person", id), new Bin("firstName", "changed"));
+
+			assertThat(template.findById(id, Person.class)).isSameAs(found);
+			assertThat(template.findByIds(Arrays.asList(id, nextId()), Person.class)).containsExactly(found);
+
+			Person saved = Person.builder().id(id).firstName("saved").emailAddress("gmail.com").build();
+			template.save(saved);
+			assertThat(template.findById(id, Person.class)).isSameAs(saved);
+
+			template.delete(id, Person.class);
+			assertThat(template.findById(id, Person.class)).isNull();
+		} finally {
+			TransactionSynchronizationManager.unbindResourceIfPossible(template);
+			TransactionSynchronizationManager.clearSynchronization();
+			template.setIdentityMapEnabled(false);
+		}
+	}
+
+	@Test
+	public void deleteType_shouldEvictIdentityMapWhenIdentityMapEnabled() {
+		Person person = Person.builder().id(id).firstName("first").emailAddress("gmail.com").build();
+		template.save(person);
+
+		template.setIdentityMapEnabled(true);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			assertThat(template.findById(id, Person.class)).isNotNull();
+
+			template.delete(Person.class);
+
+			assertThat(template.findById(id, Person.class)).isNull();
+		} finally {
+			TransactionSynchronizationManager.unbindResourceIfPossible(template);
+			TransactionSynchronizationManager.clearSynchronization();
+			template.setIdentityMapEnabled(false);
+		}
+	}
+
 	@Test
 	public void findByIds_shouldReturnEmptyList() {
 		List<Person> actual = template.findByIds(Collections.emptyList(), Person.class);
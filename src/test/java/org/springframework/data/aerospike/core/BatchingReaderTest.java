@@ -0,0 +1,89 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BatchingReaderTest {
+
+    private final List<List<Key>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldSendConcurrentReadsAsOneBatchWhenFull() throws Exception {
+        BatchingReader reader = new BatchingReader(this::read, TimeUnit.SECONDS.toNanos(10), 4);
+
+        List<Future<Record>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Key key = key("id" + i);
+            results.add(executor.submit(() -> reader.get(key)));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS).getString("id")).isEqualTo("id" + i);
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(4);
+    }
+
+    @Test
+    public void shouldSendBatchWhenWindowPasses() {
+        BatchingReader reader = new BatchingReader(this::read, TimeUnit.MILLISECONDS.toNanos(1), 100);
+
+        Record record = reader.get(key("single"));
+
+        assertThat(record.getString("id")).isEqualTo("single");
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    public void shouldReturnNullForRecordNotFound() {
+        BatchingReader reader = new BatchingReader(this::read, TimeUnit.MILLISECONDS.toNanos(1), 100);
+
+        assertThat(reader.get(key("missing"))).isNull();
+    }
+
+    @Test
+    public void shouldFailAllReadsOfFailedBatch() {
+        BatchingReader reader = new BatchingReader(keys -> {
+            throw new AerospikeException(ResultCode.TIMEOUT);
+        }, TimeUnit.MILLISECONDS.toNanos(1), 100);
+
+        Throwable throwable = catchThrowable(() -> reader.get(key("id")));
+
+        assertThat(throwable).isInstanceOf(AerospikeException.class);
+        assertThat(((AerospikeException) throwable).getResultCode()).isEqualTo(ResultCode.TIMEOUT);
+    }
+
+    private Record[] read(Key[] keys) {
+        batches.add(Arrays.asList(keys));
+        return Arrays.stream(keys)
+                .map(key -> "missing".equals(key.userKey.getObject()) ? null
+                        : new Record(Collections.singletonMap("id", key.userKey.getObject()), 1, 0))
+                .toArray(Record[]::new);
+    }
+
+    private static Key key(String id) {
+        return new Key("ns", "set", id);
+    }
+}
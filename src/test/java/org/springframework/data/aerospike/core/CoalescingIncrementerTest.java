@@ -0,0 +1,183 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import org.junit.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.aerospike.BaseIntegrationTests;
+
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingIncrementerTest extends BaseIntegrationTests {
+
+	@Test
+	public void flush_shouldWriteSumOfConcurrentIncrements() {
+		String id = nextId();
+		template.insert(new Person(id, "Counter", 10));
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(template, 1000, 5000);
+
+		IntStream.range(0, 1000).parallel().forEach(i -> incrementer.add(Person.class, id, "age", 1));
+		assertThat(template.findById(id, Person.class).getAge()).isEqualTo(10);
+
+		incrementer.flush();
+		assertThat(template.findById(id, Person.class).getAge()).isEqualTo(1010);
+	}
+
+	@Test
+	public void destroy_shouldWritePendingIncrements() throws Exception {
+		String id = nextId();
+		template.insert(new Person(id, "Counter", 0));
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(template, 60_000, 60_000);
+		incrementer.afterPropertiesSet();
+
+		incrementer.add(Person.class, id, "age", 5);
+		incrementer.add(Person.class, id, "age", -2);
+		incrementer.destroy();
+
+		assertThat(template.findById(id, Person.class).getAge()).isEqualTo(3);
+	}
+
+	@Test
+	public void flush_shouldKeepCountingAfterIdleRecordWasForgotten() {
+		String id = nextId();
+		template.insert(new Person(id, "Counter", 0));
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(template, 1000, 5000);
+
+		incrementer.add(Person.class, id, "age", 1);
+		incrementer.flush();
+		incrementer.flush();
+		incrementer.add(Person.class, id, "age", 1);
+		incrementer.flush();
+
+		assertThat(template.findById(id, Person.class).getAge()).isEqualTo(2);
+	}
+
+	@Test
+	public void flush_shouldWriteDeltasOfRejectedWriteAgain() {
+		OperationsBuilder<Person> builder = failingBuilder(ResultCode.KEY_BUSY);
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(operations(builder), 1000, 5000);
+
+		incrementer.add(Person.class, "id", "age", 1);
+		incrementer.flush();
+		incrementer.flush();
+
+		verify(builder, times(2)).add("age", 1L);
+	}
+
+	@Test
+	public void flush_shouldDropDeltasOfWriteInDoubt() {
+		OperationsBuilder<Person> builder = failingBuilder(ResultCode.TIMEOUT);
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(operations(builder), 1000, 5000);
+
+		incrementer.add(Person.class, "id", "age", 1);
+		incrementer.flush();
+		incrementer.flush();
+
+		verify(builder, times(1)).add("age", 1L);
+	}
+
+	@Test
+	public void flush_shouldWriteDeltasOfWriteInDoubtAgainIfEnabled() {
+		OperationsBuilder<Person> builder = failingBuilder(ResultCode.TIMEOUT);
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(operations(builder), 1000, 5000);
+		incrementer.setRetryInDoubtWrites(true);
+
+		incrementer.add(Person.class, "id", "age", 1);
+		incrementer.flush();
+		incrementer.flush();
+
+		verify(builder, times(2)).add("age", 1L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void flush_shouldKeepRecordReceivingIncrementWhileBeingForgotten() throws Exception {
+		AtomicLong written = new AtomicLong();
+		OperationsBuilder<Person> builder = mock(OperationsBuilder.class);
+		when(builder.add(anyString(), anyLong())).thenAnswer(invocation -> {
+			written.addAndGet((Long) invocation.getArguments()[1]);
+			return builder;
+		});
+		AerospikeOperations operations = mock(AerospikeOperations.class);
+		when(operations.operate(eq(Person.class), any(Serializable.class))).thenReturn(builder);
+		CoalescingIncrementer incrementer = new CoalescingIncrementer(operations, 1000, 5000);
+
+		incrementer.add(Person.class, new BlockingId("id", null, null), "age", 1);
+		incrementer.flush();
+
+		// the add is paused while looking up the increments of the now idle record
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread adder = new Thread(() -> incrementer.add(Person.class, new BlockingId("id", entered, release), "age", 1));
+		adder.start();
+		entered.await();
+		Thread flusher = new Thread(incrementer::flush);
+		flusher.start();
+		flusher.join(200);
+		release.countDown();
+		adder.join();
+		flusher.join();
+
+		incrementer.flush();
+		assertThat(written.get()).isEqualTo(2);
+	}
+
+	private static class BlockingId implements Serializable {
+
+		private final String value;
+		private final transient CountDownLatch entered;
+		private final transient CountDownLatch release;
+
+		BlockingId(String value, CountDownLatch entered, CountDownLatch release) {
+			this.value = value;
+			this.entered = entered;
+			this.release = release;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (entered != null) {
+				entered.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return o instanceof BlockingId && value.equals(((BlockingId) o).value);
+		}
+
+		@Override
+		public int hashCode() {
+			return value.hashCode();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static OperationsBuilder<Person> failingBuilder(int resultCode) {
+		OperationsBuilder<Person> builder = mock(OperationsBuilder.class);
+		when(builder.execute())
+				.thenThrow(new TransientDataAccessResourceException("failed", new AerospikeException(resultCode)))
+				.thenReturn(null);
+		return builder;
+	}
+
+	private static AerospikeOperations operations(OperationsBuilder<Person> builder) {
+		AerospikeOperations operations = mock(AerospikeOperations.class);
+		when(operations.operate(Person.class, "id")).thenReturn(builder);
+		return operations;
+	}
+}
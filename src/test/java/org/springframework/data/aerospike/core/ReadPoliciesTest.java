@@ -0,0 +1,55 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.policy.ConsistencyLevel;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.Replica;
+import org.junit.Test;
+import org.springframework.data.aerospike.annotation.ReadPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadPoliciesTest {
+
+    @Test
+    public void shouldReturnBasePolicyWithoutAnnotation() {
+        Policy base = new Policy();
+
+        assertThat(ReadPolicies.apply(base, null)).isSameAs(base);
+    }
+
+    @Test
+    public void shouldOverrideOnlyGivenAttributes() {
+        Policy base = new Policy();
+        base.socketTimeout = 100;
+        base.maxRetries = 5;
+        base.replica = Replica.MASTER;
+
+        Policy policy = ReadPolicies.apply(base, Tight.class.getAnnotation(ReadPolicy.class));
+
+        assertThat(policy).isNotSameAs(base);
+        assertThat(policy.totalTimeout).isEqualTo(20);
+        assertThat(policy.replica).isEqualTo(Replica.SEQUENCE);
+        assertThat(policy.consistencyLevel).isEqualTo(ConsistencyLevel.CONSISTENCY_ONE);
+        assertThat(policy.socketTimeout).isEqualTo(100);
+        assertThat(policy.maxRetries).isEqualTo(5);
+        assertThat(base.replica).isEqualTo(Replica.MASTER);
+    }
+
+    @Test
+    public void shouldApplyMethodAnnotationOnTopOfEntityAnnotation() throws Exception {
+        ReadPolicy methodPolicy = Tight.class.getDeclaredMethod("relaxed").getAnnotation(ReadPolicy.class);
+
+        Policy policy = ReadPolicies.apply(ReadPolicies.apply(new Policy(), Tight.class.getAnnotation(ReadPolicy.class)), methodPolicy);
+
+        assertThat(policy.totalTimeout).isEqualTo(5000);
+        assertThat(policy.replica).isEqualTo(Replica.SEQUENCE);
+    }
+
+    @ReadPolicy(totalTimeout = 20, replica = Replica.SEQUENCE, consistencyLevel = ConsistencyLevel.CONSISTENCY_ONE)
+    private static class Tight {
+
+        @ReadPolicy(totalTimeout = 5000)
+        void relaxed() {
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import org.junit.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RetryExecutorTest {
+
+    private static final AerospikeRetryPolicy RETRY_POLICY = AerospikeRetryPolicy.builder()
+            .maxAttempts(3)
+            .initialBackoffMillis(1)
+            .build();
+
+    private final RetryExecutor executor = new RetryExecutor();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void shouldNotRetryByDefault() {
+        Throwable throwable = catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.KEY_BUSY, 1)));
+
+        assertThat(throwable).isInstanceOf(AerospikeException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    public void shouldRetryTransientFailureUntilSuccess() {
+        executor.setDefaultPolicy(RETRY_POLICY);
+
+        String result = executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.TIMEOUT, 2));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void shouldGiveUpAfterMaxAttempts() {
+        executor.setDefaultPolicy(RETRY_POLICY);
+
+        Throwable throwable = catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.KEY_BUSY, 5)));
+
+        assertThat(((AerospikeException) throwable).getResultCode()).isEqualTo(ResultCode.KEY_BUSY);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void shouldNotRetryNonTransientFailure() {
+        executor.setDefaultPolicy(RETRY_POLICY);
+
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.KEY_NOT_FOUND_ERROR, 5)));
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    public void shouldRetryRejectedWriteButNotWriteInDoubt() {
+        executor.setDefaultPolicy(RETRY_POLICY);
+
+        executor.execute(AerospikeOperationListener.OPERATE, "ns", failing(ResultCode.KEY_BUSY, 1));
+        assertThat(attempts).hasValue(2);
+
+        attempts.set(0);
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.OPERATE, "ns", failing(ResultCode.TIMEOUT, 1)));
+        assertThat(attempts).hasValue(1);
+
+        attempts.set(0);
+        executor.setRetryInDoubtWrites(true);
+        executor.execute(AerospikeOperationListener.OPERATE, "ns", failing(ResultCode.TIMEOUT, 1));
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    public void shouldUsePolicyOfOperationType() {
+        executor.setDefaultPolicy(RETRY_POLICY);
+        executor.setPolicy(AerospikeOperationListener.GET, AerospikeRetryPolicy.NONE);
+
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.KEY_BUSY, 1)));
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    public void shouldFailFastWhileCircuitBreakerIsOpen() {
+        executor.setCircuitBreaker(2, 60_000);
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.DEVICE_OVERLOAD, 1)));
+        attempts.set(0);
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.DEVICE_OVERLOAD, 1)));
+        attempts.set(0);
+
+        Throwable throwable = catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.OK, 0)));
+
+        assertThat(throwable).isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(attempts).hasValue(0);
+        assertThat(executor.execute(AerospikeOperationListener.GET, "other-ns", failing(ResultCode.OK, 0))).isEqualTo("ok");
+    }
+
+    @Test
+    public void shouldNotOpenCircuitBreakerOnKeySpecificFailures() {
+        executor.setCircuitBreaker(1, 60_000);
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.KEY_BUSY, 1)));
+        attempts.set(0);
+
+        assertThat(executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.OK, 0))).isEqualTo("ok");
+
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.TIMEOUT, 1)));
+        attempts.set(0);
+
+        Throwable throwable = catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.OK, 0)));
+        assertThat(throwable).isInstanceOf(TransientDataAccessResourceException.class);
+    }
+
+    @Test
+    public void shouldLetTrialRequestPassAfterOpenDuration() {
+        executor.setCircuitBreaker(1, 0);
+        catchThrowable(() -> executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.DEVICE_OVERLOAD, 1)));
+
+        assertThat(executor.execute(AerospikeOperationListener.GET, "ns", failing(ResultCode.OK, 0))).isEqualTo("ok");
+    }
+
+    @Test
+    public void backoffShouldGrowExponentiallyUpToMax() {
+        AerospikeRetryPolicy policy = AerospikeRetryPolicy.builder()
+                .initialBackoffMillis(10)
+                .maxBackoffMillis(30)
+                .jitter(0)
+                .build();
+
+        assertThat(policy.getBackoffMillis(1)).isEqualTo(10);
+        assertThat(policy.getBackoffMillis(2)).isEqualTo(20);
+        assertThat(policy.getBackoffMillis(3)).isEqualTo(30);
+    }
+
+    private Supplier<String> failing(int resultCode, int failures) {
+        return () -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new AerospikeException(resultCode);
+            }
+            return "ok";
+        };
+    }
+}
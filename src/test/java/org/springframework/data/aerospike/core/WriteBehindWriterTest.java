@@ -0,0 +1,126 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.aerospike.BaseIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.core.WriteBehindWriter.JournalEntry;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WriteBehindWriterTest extends BaseIntegrationTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void flush_shouldWriteLatestSaveOfEachRecord() throws Exception {
+		String id = nextId();
+		WriteBehindWriter writer = createWriter(folder.getRoot());
+		try {
+			writer.save(new Person(id, "first", 1));
+			writer.save(new Person(id, "second", 2));
+			assertThat(writer.getPendingWrites()).isEqualTo(1);
+
+			assertThat(writer.flush()).isZero();
+			assertThat(writer.getPendingWrites()).isZero();
+			Person actual = template.findById(id, Person.class);
+			assertThat(actual.getFirstName()).isEqualTo("second");
+			assertThat(actual.getAge()).isEqualTo(2);
+		} finally {
+			writer.destroy();
+		}
+	}
+
+	@Test
+	public void afterPropertiesSet_shouldReplayJournalOfPreviousRun() throws Exception {
+		String id = nextId();
+		File directory = folder.getRoot();
+		WriteBehindWriter crashed = createWriter(directory);
+		crashed.save(new Person(id, "journaled", 3));
+		// not destroyed, the journal segment stays in the directory
+
+		WriteBehindWriter restarted = createWriter(directory);
+		try {
+			assertThat(restarted.getPendingWrites()).isEqualTo(1);
+
+			restarted.flush();
+			assertThat(template.findById(id, Person.class).getFirstName()).isEqualTo("journaled");
+		} finally {
+			restarted.destroy();
+		}
+	}
+
+	@Test
+	public void flush_shouldWriteThroughTemplate() throws Exception {
+		String id = nextId();
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		template.setOperationListener(new AerospikeOperationListener() {
+			@Override
+			public void onOperation(String operation, String namespace, String setName, int resultCode, long durationNanos) {
+				events.add(operation + ":" + setName + ":" + resultCode);
+			}
+		});
+		WriteBehindWriter writer = createWriter(folder.getRoot());
+		try {
+			writer.save(new Person(id, "behind", 4));
+			writer.flush();
+		} finally {
+			template.setOperationListener(null);
+			writer.destroy();
+		}
+
+		assertThat(events).containsExactly(AerospikeOperationListener.PUT + ":Person:" + ResultCode.OK);
+		assertThat(template.findById(id, Person.class).getFirstName()).isEqualTo("behind");
+	}
+
+	@Test
+	public void journalEntry_shouldKeepTypesOfGeoJsonAndBlobValues() throws Exception {
+		String geoJson = "{\"type\": \"Point\", \"coordinates\": [-122.0, 37.5]}";
+		byte[] segment = {0, 1, 2, 3};
+		AerospikeWriteData data = new AerospikeWriteData(new Key(getNameSpace(), "Person", "id"), Arrays.asList(
+				new Bin("location", new Value.GeoJSONValue(geoJson)),
+				new Bin("thumbnail", Value.get(segment, 1, 2)),
+				new Bin("locations", Value.get(Arrays.asList(new Value.GeoJSONValue(geoJson), "plain")))), 0);
+
+		Bin[] bins = JournalEntry.deserialize(JournalEntry.of(data).serialize()).getBins();
+
+		assertThat(bins[0].value).isInstanceOf(Value.GeoJSONValue.class);
+		assertThat(bins[0].value.toString()).isEqualTo(geoJson);
+		assertThat(bins[1].value.getType()).isEqualTo(ParticleType.BLOB);
+		assertThat((byte[]) bins[1].value.getObject()).isEqualTo(new byte[]{1, 2});
+		List<?> locations = (List<?>) bins[2].value.getObject();
+		assertThat(locations.get(0)).isInstanceOf(Value.GeoJSONValue.class);
+		assertThat(locations.get(1)).isEqualTo("plain");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void save_shouldRejectVersionedEntity() throws Exception {
+		WriteBehindWriter writer = createWriter(folder.getRoot());
+		try {
+			writer.save(new VersionedClass(nextId(), "foo"));
+		} finally {
+			writer.destroy();
+		}
+	}
+
+	private WriteBehindWriter createWriter(File directory) throws Exception {
+		WriteBehindWriter writer = new WriteBehindWriter(template, directory);
+		writer.setFlushIntervalMillis(60_000);
+		writer.afterPropertiesSet();
+		return writer;
+	}
+}
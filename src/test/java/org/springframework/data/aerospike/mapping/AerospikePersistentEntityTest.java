@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.aerospike.BaseIntegrationTests;
 import org.springframework.data.aerospike.SampleClasses.*;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.util.concurrent.TimeUnit;
 
@@ -28,6 +30,21 @@ public class AerospikePersistentEntityTest extends BaseIntegrationTests {
         assertThat(persistentEntity.getExpiration()).isEqualTo(EXPIRATION_ONE_SECOND);
     }
 
+    @Test
+    public void shouldResolveExpirationExpressionAgainAfterRefresh() {
+        MockEnvironment environment = new MockEnvironment().withProperty("expirationProperty", "1");
+        BasicAerospikePersistentEntity<?> persistentEntity = new BasicAerospikePersistentEntity<>(
+                ClassTypeInformation.from(DocumentWithExpirationExpression.class), getNameSpace());
+        persistentEntity.setEnvironment(environment);
+        assertThat(persistentEntity.getExpiration()).isEqualTo(1);
+
+        environment.setProperty("expirationProperty", "2");
+        assertThat(persistentEntity.getExpiration()).isEqualTo(1);
+
+        persistentEntity.refresh();
+        assertThat(persistentEntity.getExpiration()).isEqualTo(2);
+    }
+
     @Test
     public void shouldReturnExpirationForDocumentWithExpirationUnit() {
         BasicAerospikePersistentEntity<?> persistentEntity = context.getPersistentEntity(DocumentWithExpirationUnit.class);
@@ -46,6 +63,18 @@ public class AerospikePersistentEntityTest extends BaseIntegrationTests {
         assertThat(persistentEntity.getExpiration()).isEqualTo(DEFAULT_EXPIRATION);
     }
 
+    @Test
+    public void shouldReturnNamespaceOfDocumentWithNamespace() {
+        BasicAerospikePersistentEntity<?> persistentEntity = context.getPersistentEntity(DocumentWithNamespace.class);
+        assertThat(persistentEntity.getNamespace()).isEqualTo("hot");
+    }
+
+    @Test
+    public void shouldReturnDefaultNamespaceForDocumentWithoutNamespace() {
+        BasicAerospikePersistentEntity<?> persistentEntity = context.getPersistentEntity(DocumentWithoutExpiration.class);
+        assertThat(persistentEntity.getNamespace()).isEqualTo(getNameSpace());
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldFailForDocumentWithExpirationAndExpression() {
         BasicAerospikePersistentEntity<?> persistentEntity = context.getPersistentEntity(DocumentWithExpirationAndExpression.class);
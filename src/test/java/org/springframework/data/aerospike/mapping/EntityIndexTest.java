@@ -0,0 +1,94 @@
+package org.springframework.data.aerospike.mapping;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.aerospike.SampleClasses.SimpleClass;
+import org.springframework.data.aerospike.core.Person;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldLoadIndexedTypesOfBasePackage() throws Exception {
+		ClassLoader classLoader = classLoaderWithIndex(Person.class.getName(), SimpleClass.class.getName());
+
+		assertThat(EntityIndex.load("org.springframework.data.aerospike.core", classLoader)).containsExactly(Person.class);
+		assertThat(EntityIndex.load("org.springframework.data.aerospike", classLoader))
+				.containsExactly(Person.class, SimpleClass.class);
+	}
+
+	@Test
+	public void shouldReturnNullIfNoTypeOfBasePackageIsIndexed() throws Exception {
+		ClassLoader classLoader = classLoaderWithIndex(Person.class.getName());
+
+		assertThat(EntityIndex.load("com.example", classLoader)).isNull();
+	}
+
+	@Test
+	public void shouldReturnRootsOfBasePackageWithoutIndex() throws Exception {
+		File indexedRoot = folder.newFolder();
+		new File(indexedRoot, "com/example/model").mkdirs();
+		File index = new File(indexedRoot, EntityIndex.INDEX_LOCATION);
+		index.getParentFile().mkdirs();
+		Files.write(index.toPath(), Arrays.asList("com.example.model.Indexed"), StandardCharsets.UTF_8);
+		File unindexedRoot = folder.newFolder();
+		new File(unindexedRoot, "com/example/model").mkdirs();
+		ClassLoader classLoader = new URLClassLoader(
+				new URL[] { indexedRoot.toURI().toURL(), unindexedRoot.toURI().toURL() }, null);
+
+		assertThat(EntityIndex.getUnindexedRoots("com.example.model", classLoader))
+				.containsExactly(unindexedRoot.toURI().toURL().toString());
+	}
+
+	@Test
+	public void processorShouldIndexTypesAnnotatedWithComposedAnnotations() throws Exception {
+		File sources = folder.newFolder();
+		File classes = folder.newFolder();
+		File composed = writeSource(sources, "com/example/Entity.java", "package com.example;\n"
+				+ "@org.springframework.data.aerospike.mapping.Document\n"
+				+ "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+				+ "public @interface Entity {}\n");
+		File annotated = writeSource(sources, "com/example/Composed.java", "package com.example;\n"
+				+ "@Entity public class Composed { @Entity public static class Nested {} }\n");
+		File plain = writeSource(sources, "com/example/Plain.java", "package com.example;\n"
+				+ "public class Plain {}\n");
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		int result = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"),
+				"-d", classes.getPath(), "-processor", EntityIndexProcessor.class.getName(),
+				composed.getPath(), annotated.getPath(), plain.getPath());
+
+		assertThat(result).isEqualTo(0);
+		assertThat(Files.readAllLines(new File(classes, EntityIndex.INDEX_LOCATION).toPath(), StandardCharsets.UTF_8))
+				.containsExactly("com.example.Composed", "com.example.Composed$Nested");
+	}
+
+	private static File writeSource(File root, String path, String source) throws Exception {
+		File file = new File(root, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private ClassLoader classLoaderWithIndex(String... classNames) throws Exception {
+		File root = folder.newFolder();
+		File index = new File(root, EntityIndex.INDEX_LOCATION);
+		index.getParentFile().mkdirs();
+		Files.write(index.toPath(), Arrays.asList(classNames), StandardCharsets.UTF_8);
+		return new URLClassLoader(new URL[] { root.toURI().toURL() }, getClass().getClassLoader());
+	}
+}
@@ -26,6 +26,7 @@ import org.springframework.data.aerospike.sample.Address;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.aerospike.sample.Person.Sex;
 import org.springframework.data.aerospike.sample.PersonRepository;
+import org.springframework.data.aerospike.sample.PersonSomeFields;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort.Direction;
@@ -146,6 +147,43 @@ public class PersonRepositoryIntegrationTests extends BaseIntegrationTests {
 		assertThat(result.get(0).getAge(), is(41));
 	}
 
+	@Test
+	public void findsProjectionsByLastname() {
+		List<PersonSomeFields> result = repository.findPersonSomeFieldsByLastname("Beauford");
+		assertThat(result.size(), is(1));
+		assertThat(result.get(0).getFirstname(), is(carter.getFirstname()));
+		assertThat(result.get(0).getLastname(), is(carter.getLastname()));
+	}
+
+	@Test
+	public void findsProjectionsByLastnameOrderedByPropertyOutsideProjection() {
+		List<PersonSomeFields> result = repository.findPersonSomeFieldsByLastnameOrderByAgeAsc("Matthews");
+		assertThat(result.size(), is(2));
+		assertThat(result.get(0).getFirstname(), is(oliver.getFirstname()));
+		assertThat(result.get(1).getFirstname(), is(dave.getFirstname()));
+	}
+
+	@Test
+	public void findsPersonsByFirstnameOrLastname() {
+		List<Person> result = repository.findByFirstnameOrLastname("Leroi", "Matthews");
+		assertThat(result.size(), is(4));
+		assertThat(result, hasItems(leroi, leroi2, dave, oliver));
+	}
+
+	@Test
+	public void findsPersonsByFirstnameOrLastnameWithoutDuplicates() {
+		List<Person> result = repository.findByFirstnameOrLastname("Leroi", "Moore");
+		assertThat(result.size(), is(2));
+		assertThat(result, hasItems(leroi, leroi2));
+	}
+
+	@Test
+	public void findsPersonsByFirstnameOrNonIndexedSex() {
+		List<Person> result = repository.findByFirstnameOrSex("Dave", Sex.FEMALE);
+		assertThat(result.size(), is(2));
+		assertThat(result, hasItems(dave, alicia));
+	}
+
 	@Test
 	public void findsPersonsByFirstnameStartsWith() throws Exception {
 		List<Person> result = repository.findByFirstnameStartsWith("D");
@@ -0,0 +1,88 @@
+package org.springframework.data.aerospike.repository;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.BaseIntegrationTests;
+import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
+import org.springframework.data.aerospike.annotation.ReadPolicy;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.core.DefaultAerospikeExceptionTranslator;
+import org.springframework.data.aerospike.core.Person;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.repository.support.AerospikeRepositoryFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ReadPolicyRepositoryIntegrationTests extends BaseIntegrationTests {
+
+	@Autowired
+	private MappingAerospikeConverter converter;
+	@Autowired
+	private AerospikeMappingContext mappingContext;
+
+	private AerospikeClient spiedClient;
+	private AerospikeRepositoryFactory repositoryFactory;
+
+	@Before
+	public void setUp() {
+		spiedClient = spy(client);
+		AerospikeTemplate spiedTemplate = new AerospikeTemplate(spiedClient, getNameSpace(), converter, mappingContext,
+				new DefaultAerospikeExceptionTranslator());
+		repositoryFactory = new AerospikeRepositoryFactory(spiedTemplate);
+	}
+
+	@Test
+	public void findOne_shouldReadWithPolicyOfRepositoryMethod() {
+		Person person = new Person(nextId(), "policy", 1);
+		template.insert(person);
+		ReadPolicyPersonRepository repository = repositoryFactory.getRepository(ReadPolicyPersonRepository.class);
+
+		assertThat(repository.findOne(person.getId()).getFirstName()).isEqualTo("policy");
+
+		ArgumentCaptor<Policy> policy = ArgumentCaptor.forClass(Policy.class);
+		verify(spiedClient).get(policy.capture(), any(Key.class));
+		assertThat(policy.getValue().totalTimeout).isEqualTo(4321);
+	}
+
+	@Test
+	public void findOne_shouldTouchWithPolicyOfRepositoryMethod() {
+		DocumentWithTouchOnRead document = new DocumentWithTouchOnRead(nextId());
+		template.insert(document);
+		ReadPolicyTouchOnReadRepository repository = repositoryFactory.getRepository(ReadPolicyTouchOnReadRepository.class);
+
+		assertThat(repository.findOne(document.getId())).isNotNull();
+		assertThat(repository.findOne(document.getId())).isNotNull();
+
+		ArgumentCaptor<WritePolicy> policy = ArgumentCaptor.forClass(WritePolicy.class);
+		verify(spiedClient, times(2)).operate(policy.capture(), any(Key.class), Matchers.<Operation>anyVararg());
+		assertThat(policy.getAllValues().get(0).totalTimeout).isEqualTo(4321);
+		assertThat(policy.getAllValues().get(1)).isSameAs(policy.getAllValues().get(0));
+	}
+
+	public interface ReadPolicyPersonRepository extends AerospikeRepository<Person, String> {
+
+		@Override
+		@ReadPolicy(totalTimeout = 4321)
+		Person findOne(String id);
+	}
+
+	public interface ReadPolicyTouchOnReadRepository extends AerospikeRepository<DocumentWithTouchOnRead, String> {
+
+		@Override
+		@ReadPolicy(totalTimeout = 4321)
+		DocumentWithTouchOnRead findOne(String id);
+	}
+}
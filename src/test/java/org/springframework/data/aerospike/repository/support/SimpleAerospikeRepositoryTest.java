@@ -153,7 +153,7 @@ public class SimpleAerospikeRepositoryTest {
 	public void testDeleteIterableOfQextendsT() {
 		aerospikeRepository.delete(testPersons);
 
-		verify(operations, times(testPersons.size())).delete(any(Person.class));
+		verify(operations).deleteAll(testPersons);
 	}
 
 	@Test
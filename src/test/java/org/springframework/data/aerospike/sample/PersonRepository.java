@@ -57,6 +57,14 @@ public interface PersonRepository extends AerospikeRepository<Person, String> {
 
 	List<Person> findByLastnameLikeAndAgeBetween(String lastname, int from, int to);
 
+	List<PersonSomeFields> findPersonSomeFieldsByLastname(String lastname);
+
+	List<PersonSomeFields> findPersonSomeFieldsByLastnameOrderByAgeAsc(String lastname);
+
+	List<Person> findByFirstnameOrLastname(String firstname, String lastname);
+
+	List<Person> findByFirstnameOrSex(String firstname, Person.Sex sex);
+
 	List<Person> findByAgeOrLastnameLikeAndFirstnameLike(int age, String lastname, String firstname);
 
 	List<Person> findBySex(Person.Sex sex);
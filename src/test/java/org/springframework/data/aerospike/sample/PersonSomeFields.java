@@ -0,0 +1,11 @@
+package org.springframework.data.aerospike.sample;
+
+/**
+ * Closed projection of {@link Person}.
+ */
+public interface PersonSomeFields {
+
+	String getFirstname();
+
+	String getLastname();
+}